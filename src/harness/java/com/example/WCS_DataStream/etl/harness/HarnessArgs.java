@@ -0,0 +1,50 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하네스 인자 (--name=value, 값이 없으면 true)
+ */
+final class HarnessArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private HarnessArgs() {
+    }
+
+    static HarnessArgs parse(String[] args) {
+        HarnessArgs parsed = new HarnessArgs();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("인자는 --name=value 형식이어야 합니다: " + arg);
+            int eq = arg.indexOf('=');
+            if (eq < 0) parsed.values.put(arg.substring(2), "true");
+            else parsed.values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return parsed;
+    }
+
+    String string(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int intValue(String name, int defaultValue) {
+        String v = values.get(name);
+        return v == null ? defaultValue : Integer.parseInt(v);
+    }
+
+    long longValue(String name, long defaultValue) {
+        String v = values.get(name);
+        return v == null ? defaultValue : Long.parseLong(v);
+    }
+
+    double doubleValue(String name, double defaultValue) {
+        String v = values.get(name);
+        return v == null ? defaultValue : Double.parseDouble(v);
+    }
+
+    boolean bool(String name, boolean defaultValue) {
+        String v = values.get(name);
+        return v == null ? defaultValue : Boolean.parseBoolean(v);
+    }
+}
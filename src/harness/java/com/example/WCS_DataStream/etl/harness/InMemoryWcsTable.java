@@ -0,0 +1,82 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * WCS 벤더 테이블의 메모리 대역
+ *
+ * 행을 (COALESCE(UPD_DT, INS_DT), UUID) 키셋 순서로 보관하고, 행이 갱신되면 이전 키를 지우고 새 키로 옮깁니다.
+ * fetch 는 WcsKeysetQuery 의 TIMESTAMP 키셋 조건과 같은 결과를 돌려줍니다
+ * (lastUuid 가 null 이면 저장소와 같이 "" 로 바인딩한 것과 같음).
+ * 갱신은 새 레코드 인스턴스로만 하므로 조회 결과를 엔진이 들고 있어도 값이 바뀌지 않습니다.
+ */
+final class InMemoryWcsTable<T> {
+
+    private record Key(Timestamp ts, String uuid) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key o) {
+            int c = ts.compareTo(o.ts);
+            return c != 0 ? c : uuid.compareTo(o.uuid);
+        }
+    }
+
+    private final ConcurrentSkipListMap<Key, T> rows = new ConcurrentSkipListMap<>();
+    private final Map<String, Key> keyByUuid = new ConcurrentHashMap<>();
+    private final Function<T, String> uuidOf;
+    private final Function<T, Timestamp> tsOf;
+    private final AtomicLong writes = new AtomicLong();
+
+    InMemoryWcsTable(Function<T, String> uuidOf, Function<T, Timestamp> tsOf) {
+        this.uuidOf = uuidOf;
+        this.tsOf = tsOf;
+    }
+
+    /**
+     * INSERT 또는 UPDATE (같은 UUID 의 이전 행을 대체)
+     */
+    synchronized void upsert(T row) {
+        Key key = new Key(tsOf.apply(row), uuidOf.apply(row));
+        // 새 위치를 먼저 넣어 동시 조회가 행을 놓치지 않도록 함 (잠깐 두 위치에 보일 수 있음)
+        rows.put(key, row);
+        Key old = keyByUuid.put(key.uuid, key);
+        if (old != null && !old.equals(key)) rows.remove(old);
+        writes.incrementAndGet();
+    }
+
+    T current(String uuid) {
+        Key key = keyByUuid.get(uuid);
+        return key == null ? null : rows.get(key);
+    }
+
+    List<T> fetch(Timestamp lastTs, String lastUuid, int limit) {
+        Key from = new Key(lastTs, lastUuid == null ? "" : lastUuid);
+        List<T> out = new ArrayList<>(Math.min(limit, 1024));
+        for (T row : rows.tailMap(from, false).values()) {
+            if (out.size() >= limit) break;
+            out.add(row);
+        }
+        return out;
+    }
+
+    /**
+     * (lastTs, lastUuid) 이후 행 수
+     */
+    long countAfter(Timestamp lastTs, String lastUuid) {
+        return rows.tailMap(new Key(lastTs, lastUuid == null ? "" : lastUuid), false).size();
+    }
+
+    int size() {
+        return keyByUuid.size();
+    }
+
+    long writes() {
+        return writes.get();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import java.util.Arrays;
+
+/**
+ * 지연 샘플 기록 (나노초, 단일 작성 스레드)
+ *
+ * 하네스 실행 시간 동안의 틱 수는 많아야 수십만 건이므로 전부 보관했다가 정렬해 정확한 퍼센타일을 계산합니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long nanos) {
+        if (size == samples.length) samples = Arrays.copyOf(samples, size * 2);
+        samples[size++] = nanos;
+    }
+
+    int count() {
+        return size;
+    }
+
+    /**
+     * @param quantile 0~1
+     * @return 밀리초, 샘플이 없으면 0
+     */
+    double percentileMs(double quantile) {
+        if (size == 0) return 0.0;
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(Math.max(0.0, Math.min(1.0, quantile)) * size) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    double maxMs() {
+        long max = 0;
+        for (int i = 0; i < size; i++) max = Math.max(max, samples[i]);
+        return max / 1_000_000.0;
+    }
+}
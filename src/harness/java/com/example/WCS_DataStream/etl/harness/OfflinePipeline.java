@@ -0,0 +1,115 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import com.example.WCS_DataStream.etl.common.EtlPhaseMetrics;
+import com.example.WCS_DataStream.etl.config.ETLConfig;
+import com.example.WCS_DataStream.etl.engine.AntRobotEtlEngine;
+import com.example.WCS_DataStream.etl.engine.ETLEngine;
+import com.example.WCS_DataStream.etl.engine.MushinyAgvEtlEngine;
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
+import com.example.WCS_DataStream.etl.service.EtlOffsetStore;
+import com.example.WCS_DataStream.etl.service.SnapshotCacheService;
+import com.example.WCS_DataStream.etl.service.WcsBackfillRepository;
+import com.example.WCS_DataStream.etl.service.WcsChangeTrackingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대역(OfflineStandIns)으로 조립한 ANT_ROBOT_INFO / MUSHINY_AGV_INFO 파이프라인
+ *
+ * 엔진은 운영과 같은 클래스이며 생성자 주입만 대역으로 바꿉니다. 오프셋은 REDIS 모드(메모리 Redis),
+ * 병렬 백필은 WCS 구간 계획 SQL 이 필요하므로 끕니다. tick 은 BaseETLScheduler 한 틱(실행 + 백로그 드레인)과 같습니다.
+ */
+final class OfflinePipeline {
+
+    static final String ANT_ROBOT_FIELDS = "posX,posY,zoneCode,status,battery,taskId,nodeId";
+    static final String MUSHINY_AGV_FIELDS = "posX,posY,zoneCode,status,battery,nodeId,podId";
+
+    /**
+     * 도메인 하나 (엔진 + WCS 대역 테이블)
+     */
+    record Domain(String name, ETLEngine<?> engine, InMemoryWcsTable<?> table) {
+
+        /**
+         * 커밋된 오프셋 이후 아직 추출하지 않은 행 수
+         */
+        long backlog() {
+            EtlOffsetStore.Offset off = engine.getCommittedOffset();
+            if (off == null || off.lastTs == null) return table.size();
+            return table.countAfter(off.lastTs, off.lastUuid);
+        }
+    }
+
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final InMemoryWcsTable<AntRobotInfoRecord> antRobotTable = new InMemoryWcsTable<>(AntRobotInfoRecord::getUuid, OfflineStandIns::sourceTs);
+    final InMemoryWcsTable<MushinyAgvInfoRecord> mushinyAgvTable = new InMemoryWcsTable<>(MushinyAgvInfoRecord::getUuid, OfflineStandIns::sourceTs);
+    final OfflineStandIns.SystemAntRobot antRobotSink = new OfflineStandIns.SystemAntRobot();
+    final OfflineStandIns.SystemMushinyAgv mushinyAgvSink = new OfflineStandIns.SystemMushinyAgv();
+    final OfflineStandIns.Kafka kafka;
+    final List<Domain> domains;
+
+    OfflinePipeline(boolean streaming, boolean publish, int pageSize) {
+        OfflineStandIns.Redis redis = new OfflineStandIns.Redis();
+        EtlOffsetStore offsetStore = new EtlOffsetStore(redis, null, null, EtlOffsetStore.Backend.REDIS, false);
+        SnapshotCacheService snapshotCache = new SnapshotCacheService(redis, registry);
+        WcsChangeTrackingRepository changeVersions = new WcsChangeTrackingRepository(null);
+        WcsBackfillRepository backfillRepo = new WcsBackfillRepository(null);
+        this.kafka = new OfflineStandIns.Kafka(registry, publish);
+
+        AntRobotEtlEngine antRobot = new AntRobotEtlEngine(new OfflineStandIns.WcsAntRobot(antRobotTable), changeVersions,
+                backfillRepo, antRobotSink, offsetStore, kafka, snapshotCache, ANT_ROBOT_FIELDS,
+                ETLConfig.LoadMode.INSERT, ETLConfig.SnapshotMode.FULL);
+        MushinyAgvEtlEngine mushinyAgv = new MushinyAgvEtlEngine(new OfflineStandIns.WcsMushinyAgv(mushinyAgvTable), changeVersions,
+                backfillRepo, mushinyAgvSink, offsetStore, kafka, snapshotCache, MUSHINY_AGV_FIELDS,
+                ETLConfig.LoadMode.INSERT, ETLConfig.SnapshotMode.FULL);
+
+        OfflineStandIns.PostgreSQL postgreSQL = new OfflineStandIns.PostgreSQL();
+        antRobot.initialize(config(streaming, pageSize), postgreSQL);
+        mushinyAgv.initialize(config(streaming, pageSize), postgreSQL);
+        antRobot.bindMetrics(new EtlPhaseMetrics(registry, "antRobot"));
+        mushinyAgv.bindMetrics(new EtlPhaseMetrics(registry, "mushinyAgv"));
+        this.domains = List.of(new Domain("antRobot", antRobot, antRobotTable), new Domain("mushinyAgv", mushinyAgv, mushinyAgvTable));
+    }
+
+    private static ETLConfig config(boolean streaming, int pageSize) {
+        ETLConfig config = new ETLConfig();
+        config.setBatchSize(pageSize);
+        config.setMaxBatchSize(Math.max(pageSize, config.getMaxBatchSize()));
+        config.setDrainEnabled(true);
+        config.setStreamingEnabled(streaming);
+        config.setBackfillEnabled(false);
+        return config;
+    }
+
+    Domain domain(String name) {
+        for (Domain d : domains) {
+            if (d.name().equals(name)) return d;
+        }
+        throw new IllegalArgumentException("unknown domain: " + name + " (antRobot, mushinyAgv)");
+    }
+
+    /**
+     * 스케줄러 한 틱: 증분 실행 후 가득 찬 페이지가 이어지는 동안 drainBudgetMs 안에서 반복
+     *
+     * @return 적재 건수
+     */
+    static int tick(ETLEngine<?> engine) throws Exception {
+        ETLConfig config = engine.getConfig();
+        int written = engine.executeETL().size();
+        long deadline = System.currentTimeMillis() + config.getDrainBudgetMs();
+        while (engine.hasMoreData() && System.currentTimeMillis() < deadline) {
+            written += config.isStreamingEnabled() ? engine.executeStreamingETL() : engine.executeETL().size();
+        }
+        return written;
+    }
+
+    /**
+     * 대역 System 테이블의 최종 행 수 (도메인별)
+     */
+    Map<String, Integer> sinkSizes() {
+        return Map.of("antRobot", antRobotSink.rows.size(), "mushinyAgv", mushinyAgvSink.rows.size());
+    }
+}
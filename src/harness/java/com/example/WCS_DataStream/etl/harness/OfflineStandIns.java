@@ -0,0 +1,244 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import com.example.WCS_DataStream.etl.config.ETLConfig;
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
+import com.example.WCS_DataStream.etl.service.KafkaEventPublisher;
+import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
+import com.example.WCS_DataStream.etl.service.RedisCacheService;
+import com.example.WCS_DataStream.etl.service.SystemAgvRepository;
+import com.example.WCS_DataStream.etl.service.SystemMushinyAgvRepository;
+import com.example.WCS_DataStream.etl.service.WcsAntRobotRepository;
+import com.example.WCS_DataStream.etl.service.WcsMushinyAgvRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 네트워크 없이 파이프라인을 돌리기 위한 프로세스 내 대역
+ *
+ * 엔진이 의존하는 저장소/서비스 클래스를 상속해 외부 호출 메서드만 바꿉니다. 엔진 코드는 그대로입니다.
+ * - WCS 조회: InMemoryWcsTable 키셋 조회
+ * - System 적재: UUID → 레코드 맵 (PostgreSQL 최종 상태와 같음)
+ * - Redis: 값을 JSON 문자열로 저장해 조회 시 Jackson 역직렬화 비용을 유지
+ * - Kafka: 전송 대신 spring.kafka.producer.value-serializer 와 같은 JsonSerializer 로 직렬화만 수행
+ */
+final class OfflineStandIns {
+
+    private OfflineStandIns() {
+    }
+
+    static Timestamp sourceTs(AntRobotInfoRecord r) {
+        return r.getUpdDt() != null ? r.getUpdDt() : r.getInsDt();
+    }
+
+    static Timestamp sourceTs(MushinyAgvInfoRecord r) {
+        return r.getUpdDt() != null ? r.getUpdDt() : r.getInsDt();
+    }
+
+    static final class WcsAntRobot extends WcsAntRobotRepository {
+        private final InMemoryWcsTable<AntRobotInfoRecord> table;
+
+        WcsAntRobot(InMemoryWcsTable<AntRobotInfoRecord> table) {
+            super(null, ETLConfig.ExtractionMode.TIMESTAMP);
+            this.table = table;
+        }
+
+        @Override
+        public List<AntRobotInfoRecord> fetchIncremental(Timestamp lastTs, String lastUuid, int limit) {
+            return table.fetch(lastTs, lastUuid, limit);
+        }
+
+        @Override
+        public void streamIncremental(Timestamp lastTs, String lastUuid, int limit, int fetchSize, int chunkSize,
+                                      Consumer<List<AntRobotInfoRecord>> chunkSink) {
+            streamChunks(table.fetch(lastTs, lastUuid, limit), chunkSize, chunkSink);
+        }
+    }
+
+    static final class WcsMushinyAgv extends WcsMushinyAgvRepository {
+        private final InMemoryWcsTable<MushinyAgvInfoRecord> table;
+
+        WcsMushinyAgv(InMemoryWcsTable<MushinyAgvInfoRecord> table) {
+            super(null, ETLConfig.ExtractionMode.TIMESTAMP);
+            this.table = table;
+        }
+
+        @Override
+        public List<MushinyAgvInfoRecord> fetchIncremental(Timestamp lastTs, String lastUuid, int limit) {
+            return table.fetch(lastTs, lastUuid, limit);
+        }
+
+        @Override
+        public void streamIncremental(Timestamp lastTs, String lastUuid, int limit, int fetchSize, int chunkSize,
+                                      Consumer<List<MushinyAgvInfoRecord>> chunkSink) {
+            streamChunks(table.fetch(lastTs, lastUuid, limit), chunkSize, chunkSink);
+        }
+    }
+
+    private static <T> void streamChunks(List<T> rows, int chunkSize, Consumer<List<T>> chunkSink) {
+        for (int i = 0; i < rows.size(); i += chunkSize) {
+            chunkSink.accept(new ArrayList<>(rows.subList(i, Math.min(rows.size(), i + chunkSize))));
+        }
+    }
+
+    static final class SystemAntRobot extends SystemAgvRepository {
+        final Map<String, AntRobotInfoRecord> rows = new ConcurrentHashMap<>();
+
+        SystemAntRobot() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public int upsertAll(List<AntRobotInfoRecord> batch) {
+            for (AntRobotInfoRecord r : batch) rows.put(r.getUuid(), r);
+            return batch.size();
+        }
+
+        @Override
+        public long copyAll(List<AntRobotInfoRecord> batch) {
+            return upsertAll(batch);
+        }
+    }
+
+    static final class SystemMushinyAgv extends SystemMushinyAgvRepository {
+        final Map<String, MushinyAgvInfoRecord> rows = new ConcurrentHashMap<>();
+
+        SystemMushinyAgv() {
+            super(null, null);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public int upsertAll(List<MushinyAgvInfoRecord> batch) {
+            for (MushinyAgvInfoRecord r : batch) rows.put(r.getUuid(), r);
+            return batch.size();
+        }
+
+        @Override
+        public long copyAll(List<MushinyAgvInfoRecord> batch) {
+            return upsertAll(batch);
+        }
+    }
+
+    static final class Redis extends RedisCacheService {
+        private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        Redis() {
+            super(null);
+        }
+
+        @Override
+        public <T> T get(String namespace, String key, Class<T> clazz) {
+            return read(values.get(namespace + ":" + key), clazz);
+        }
+
+        @Override
+        public <T> Map<String, T> getAll(String namespace, Collection<String> keys, Class<T> clazz) {
+            Map<String, T> result = new HashMap<>();
+            if (keys == null) return result;
+            for (String k : keys) {
+                T v = read(values.get(namespace + ":" + k), clazz);
+                if (v != null) result.put(k, v);
+            }
+            return result;
+        }
+
+        @Override
+        public void set(String namespace, String key, Object value) {
+            values.put(namespace + ":" + key, write(value));
+        }
+
+        @Override
+        public void setAll(String namespace, Map<String, ?> entries) {
+            if (entries == null) return;
+            for (Map.Entry<String, ?> e : entries.entrySet()) {
+                values.put(namespace + ":" + e.getKey(), write(e.getValue()));
+            }
+        }
+
+        @Override
+        public void delete(String namespace, String key) {
+            values.remove(namespace + ":" + key);
+        }
+
+        @Override
+        public void clearNamespace(String namespace) {
+            values.keySet().removeIf(k -> k.startsWith(namespace + ":"));
+        }
+
+        private String write(Object value) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private <T> T read(String json, Class<T> clazz) {
+            if (json == null) return null;
+            try {
+                return objectMapper.readValue(json, clazz);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    static final class Kafka extends KafkaEventPublisher {
+        private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+        private final boolean enabled;
+        final AtomicLong records = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+
+        Kafka(MeterRegistry registry, boolean enabled) {
+            super(null, registry, 1000, 30000);
+            this.enabled = enabled;
+        }
+
+        @Override
+        public <T> void publishPage(String topic, List<T> page, Function<T, String> keyOf) {
+            if (!enabled || page == null) return;
+            long n = 0;
+            for (T record : page) {
+                byte[] value = serializer.serialize(topic, record);
+                n += value == null ? 0 : value.length;
+            }
+            records.addAndGet(page.size());
+            bytes.addAndGet(n);
+        }
+    }
+
+    static final class PostgreSQL extends PostgreSQLDataService {
+        PostgreSQL() {
+            super(null);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+    }
+}
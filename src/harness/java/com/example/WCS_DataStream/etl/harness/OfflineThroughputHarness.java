@@ -0,0 +1,180 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 오프라인 종단 처리량 하네스
+ *
+ * SQL Server / PostgreSQL / Redis / Kafka 없이 OfflinePipeline(운영 엔진 + 프로세스 내 대역)에
+ * SyntheticFleet 이 테이블마다 초당 rate 건의 갱신을 넣고, 도메인마다 스케줄러처럼 tickMs 주기로 틱을 돌립니다.
+ * warmupSec 이후 durationSec 동안 다음을 측정합니다.
+ *   - 초당 추출/적재 행 수 (지속 처리량, 제공 부하 대비)
+ *   - 틱 지연 p50/p99/max
+ *   - 틱 스레드 할당량(MB/s, 추출 행당 바이트)과 GC 횟수/시간
+ *   - 종료 시점 백로그 (오프셋 이후 남은 행)
+ *
+ * 실행: ./gradlew harness -PharnessArgs="--fleet=2000 --rate=5000 --durationSec=60"
+ * 인자: fleet(1000) rate(2000) durationSec(60) warmupSec(10) tickMs(100) pageSize(1000)
+ *       streaming(false) kafka(true) domains(antRobot,mushinyAgv) json(결과 JSON 경로, 선택)
+ */
+public final class OfflineThroughputHarness {
+
+    private OfflineThroughputHarness() {
+    }
+
+    public static void main(String[] argv) throws Exception {
+        HarnessArgs args = HarnessArgs.parse(argv);
+        int fleetSize = args.intValue("fleet", 1000);
+        double rate = args.doubleValue("rate", 2000);
+        long durationMs = args.longValue("durationSec", 60) * 1000L;
+        long warmupMs = args.longValue("warmupSec", 10) * 1000L;
+        long tickMs = Math.max(1L, args.longValue("tickMs", 100));
+
+        OfflinePipeline pipeline = new OfflinePipeline(args.bool("streaming", false), args.bool("kafka", true), args.intValue("pageSize", 1000));
+        SyntheticFleet fleet = new SyntheticFleet(pipeline, fleetSize, rate, 42L);
+        fleet.seed();
+
+        long start = System.currentTimeMillis();
+        long measureFrom = start + warmupMs;
+        long stopAt = measureFrom + durationMs;
+        List<TickDriver> drivers = new ArrayList<>();
+        for (String name : args.string("domains", "antRobot,mushinyAgv").split(",")) {
+            drivers.add(new TickDriver(pipeline.domain(name.trim()), tickMs, measureFrom, stopAt));
+        }
+        fleet.start();
+        for (TickDriver d : drivers) d.thread.start();
+
+        sleepUntil(measureFrom);
+        long generatedFrom = fleet.generated();
+        long[] gcFrom = gcTotals();
+        sleepUntil(stopAt);
+        long generated = fleet.generated() - generatedFrom;
+        long[] gcTo = gcTotals();
+        for (TickDriver d : drivers) d.thread.join();
+        fleet.stop();
+
+        double seconds = durationMs / 1000.0;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("fleetSize", fleetSize);
+        report.put("offeredUpdatesPerSecPerTable", round(generated / seconds));
+        report.put("durationSec", seconds);
+        report.put("tickMs", tickMs);
+        report.put("gcCount", gcTo[0] - gcFrom[0]);
+        report.put("gcTimeMs", gcTo[1] - gcFrom[1]);
+        Map<String, Object> domains = new LinkedHashMap<>();
+        for (TickDriver d : drivers) {
+            domains.put(d.domain.name(), d.report(seconds));
+        }
+        report.put("domains", domains);
+        report.put("kafkaRecords", pipeline.kafka.records.get());
+        report.put("sinkRows", pipeline.sinkSizes());
+
+        ObjectMapper mapper = new ObjectMapper();
+        System.out.println(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        String json = args.string("json", null);
+        if (json != null) mapper.writerWithDefaultPrettyPrinter().writeValue(new File(json), report);
+    }
+
+    /**
+     * 도메인별 틱 실행 스레드 (스케줄러와 같이 tickMs 주기, 틱이 길어지면 다음 틱을 바로 시작)
+     */
+    private static final class TickDriver implements Runnable {
+        final OfflinePipeline.Domain domain;
+        final Thread thread;
+        private final long tickMs;
+        private final long measureFrom;
+        private final long stopAt;
+        private final LatencyRecorder latency = new LatencyRecorder();
+        private long written;
+        private long extracted;
+        private long allocatedBytes;
+        private long errors;
+        private long backlog;
+
+        TickDriver(OfflinePipeline.Domain domain, long tickMs, long measureFrom, long stopAt) {
+            this.domain = domain;
+            this.tickMs = tickMs;
+            this.measureFrom = measureFrom;
+            this.stopAt = stopAt;
+            this.thread = new Thread(this, "harness-tick-" + domain.name());
+        }
+
+        @Override
+        public void run() {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            boolean measuring = false;
+            long allocFrom = 0;
+            long extractedFrom = 0;
+            long next = System.currentTimeMillis();
+            while (System.currentTimeMillis() < stopAt) {
+                if (!measuring && System.currentTimeMillis() >= measureFrom) {
+                    measuring = true;
+                    allocFrom = threads.getCurrentThreadAllocatedBytes();
+                    extractedFrom = domain.engine().getStatistics().getTotalProcessedRecords();
+                }
+                long t0 = System.nanoTime();
+                int rows = 0;
+                try {
+                    rows = OfflinePipeline.tick(domain.engine());
+                } catch (Exception e) {
+                    errors++;
+                }
+                if (measuring) {
+                    latency.record(System.nanoTime() - t0);
+                    written += rows;
+                }
+                next += tickMs;
+                sleepUntil(next);
+                next = Math.max(next, System.currentTimeMillis());
+            }
+            allocatedBytes = threads.getCurrentThreadAllocatedBytes() - allocFrom;
+            extracted = domain.engine().getStatistics().getTotalProcessedRecords() - extractedFrom;
+            backlog = domain.backlog();
+        }
+
+        Map<String, Object> report(double seconds) {
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("ticks", latency.count());
+            r.put("extractedRowsPerSec", round(extracted / seconds));
+            r.put("writtenRowsPerSec", round(written / seconds));
+            r.put("tickP50Ms", round(latency.percentileMs(0.50)));
+            r.put("tickP99Ms", round(latency.percentileMs(0.99)));
+            r.put("tickMaxMs", round(latency.maxMs()));
+            r.put("allocatedMBPerSec", round(allocatedBytes / seconds / (1024 * 1024)));
+            r.put("allocatedBytesPerExtractedRow", extracted == 0 ? 0 : allocatedBytes / extracted);
+            r.put("backlogAtEnd", backlog);
+            r.put("errors", errors);
+            return r;
+        }
+    }
+
+    private static long[] gcTotals() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            timeMs += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] { count, timeMs };
+    }
+
+    static void sleepUntil(long epochMs) {
+        long remaining;
+        while ((remaining = epochMs - System.currentTimeMillis()) > 0) {
+            LockSupport.parkNanos(remaining * 1_000_000L);
+        }
+    }
+
+    static double round(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+}
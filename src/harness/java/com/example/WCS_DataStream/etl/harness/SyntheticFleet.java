@@ -0,0 +1,225 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 합성 로봇 군(fleet) 생성기
+ *
+ * ANT_ROBOT_INFO / MUSHINY_AGV_INFO 에 로봇 fleetSize 대씩 넣은 뒤, 테이블마다 초당 ratePerSec 건을
+ * 10ms 간격으로 나눠 갱신합니다 (UPD_DT = 갱신 시각). 갱신 종류 비율:
+ *   이동(POS_X/POS_Y/NODE_ID) 60%, 배터리 15%, 작업/상태 10%, 구역 이동 5%,
+ *   보고 시각만 변경 10% (변경 감지 필드가 같아 적재되지 않고 오프셋만 전진하는 행)
+ */
+final class SyntheticFleet {
+
+    private static final long STEP_MS = 10;
+    private static final BigDecimal STEP = new BigDecimal("0.5");
+
+    private final OfflinePipeline pipeline;
+    private final int fleetSize;
+    private final double ratePerSec;
+    private final SplittableRandom random;
+    private final AtomicLong generated = new AtomicLong();
+    private ScheduledExecutorService executor;
+    private double carry;
+
+    SyntheticFleet(OfflinePipeline pipeline, int fleetSize, double ratePerSec, long seed) {
+        this.pipeline = pipeline;
+        this.fleetSize = Math.max(1, fleetSize);
+        this.ratePerSec = Math.max(0.0, ratePerSec);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 로봇 초기 행 INSERT (INS_DT 만 있고 UPD_DT 는 null)
+     */
+    void seed() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < fleetSize; i++) {
+            AntRobotInfoRecord a = new AntRobotInfoRecord();
+            a.setUuid(String.format("ar-%06d", i));
+            a.setRobotNo("AR_" + i);
+            a.setRobotType("ANT");
+            a.setMapCode("MAP_A");
+            a.setZoneCode("ZONE_" + (i % 10));
+            a.setStatus(1);
+            a.setManual(false);
+            a.setLoaders("L0");
+            a.setReportTime(String.valueOf(now.getTime()));
+            a.setBattery(new BigDecimal("100.0"));
+            a.setNodeId("NODE_" + (i % 100));
+            a.setPosX(BigDecimal.valueOf(i % 100));
+            a.setPosY(BigDecimal.valueOf(i / 100));
+            a.setSpeed(new BigDecimal("1.5"));
+            a.setTaskId("TASK_0");
+            a.setNextTarget("TARGET_0");
+            a.setPodId("POD_" + (i % 200));
+            a.setInsDt(now);
+            a.setInsUserId("harness");
+            pipeline.antRobotTable.upsert(a);
+
+            MushinyAgvInfoRecord m = new MushinyAgvInfoRecord();
+            m.setUuid(String.format("ma-%06d", i));
+            m.setRobotNo("MA_" + i);
+            m.setZoneCode("ZONE_" + (i % 10));
+            m.setNodeId("NODE_" + (i % 100));
+            m.setDirectionFront("N");
+            m.setPodId("POD_" + (i % 200));
+            m.setPodDirection("E");
+            m.setStatus(1);
+            m.setManual("N");
+            m.setBattery(new BigDecimal("100.0"));
+            m.setPosX(BigDecimal.valueOf(i % 100));
+            m.setPosY(BigDecimal.valueOf(i / 100));
+            m.setHasPod("N");
+            m.setInsDt(now);
+            m.setInsUserId("harness");
+            pipeline.mushinyAgvTable.upsert(m);
+        }
+    }
+
+    void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "harness-fleet");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(this::step, STEP_MS, STEP_MS, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        if (executor != null) executor.shutdownNow();
+    }
+
+    /**
+     * 지금까지 테이블별로 적용한 갱신 수
+     */
+    long generated() {
+        return generated.get();
+    }
+
+    private void step() {
+        carry += ratePerSec * STEP_MS / 1000.0;
+        int n = (int) carry;
+        carry -= n;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < n; i++) {
+            mutateAntRobot(String.format("ar-%06d", random.nextInt(fleetSize)), now);
+            mutateMushinyAgv(String.format("ma-%06d", random.nextInt(fleetSize)), now);
+        }
+        generated.addAndGet(n);
+    }
+
+    private void mutateAntRobot(String uuid, Timestamp now) {
+        AntRobotInfoRecord prev = pipeline.antRobotTable.current(uuid);
+        if (prev == null) return;
+        AntRobotInfoRecord r = copy(prev);
+        int kind = random.nextInt(100);
+        if (kind < 60) {
+            r.setPosX(move(prev.getPosX()));
+            r.setPosY(move(prev.getPosY()));
+            r.setNodeId("NODE_" + random.nextInt(100));
+        } else if (kind < 75) {
+            r.setBattery(drain(prev.getBattery()));
+        } else if (kind < 85) {
+            r.setTaskId("TASK_" + random.nextInt(10_000));
+            r.setStatus(random.nextInt(5));
+        } else if (kind < 90) {
+            r.setZoneCode("ZONE_" + random.nextInt(10));
+        }
+        r.setReportTime(String.valueOf(now.getTime()));
+        r.setUpdDt(now);
+        r.setUpdUserId("harness");
+        pipeline.antRobotTable.upsert(r);
+    }
+
+    private void mutateMushinyAgv(String uuid, Timestamp now) {
+        MushinyAgvInfoRecord prev = pipeline.mushinyAgvTable.current(uuid);
+        if (prev == null) return;
+        MushinyAgvInfoRecord r = copy(prev);
+        int kind = random.nextInt(100);
+        if (kind < 60) {
+            r.setPosX(move(prev.getPosX()));
+            r.setPosY(move(prev.getPosY()));
+            r.setNodeId("NODE_" + random.nextInt(100));
+        } else if (kind < 75) {
+            r.setBattery(drain(prev.getBattery()));
+        } else if (kind < 85) {
+            r.setPodId("POD_" + random.nextInt(200));
+            r.setStatus(random.nextInt(5));
+        } else if (kind < 90) {
+            r.setZoneCode("ZONE_" + random.nextInt(10));
+        }
+        // 나머지 10% 는 UPD_DT 만 바뀜 (변경 감지 필드 동일)
+        r.setUpdDt(now);
+        r.setUpdUserId("harness");
+        pipeline.mushinyAgvTable.upsert(r);
+    }
+
+    private BigDecimal move(BigDecimal v) {
+        return v.add(random.nextBoolean() ? STEP : STEP.negate());
+    }
+
+    private BigDecimal drain(BigDecimal battery) {
+        BigDecimal next = battery.subtract(new BigDecimal("0.1"));
+        return next.signum() <= 0 ? new BigDecimal("100.0") : next.setScale(1, RoundingMode.HALF_UP);
+    }
+
+    private static AntRobotInfoRecord copy(AntRobotInfoRecord s) {
+        AntRobotInfoRecord r = new AntRobotInfoRecord();
+        r.setUuid(s.getUuid());
+        r.setRobotNo(s.getRobotNo());
+        r.setRobotType(s.getRobotType());
+        r.setMapCode(s.getMapCode());
+        r.setZoneCode(s.getZoneCode());
+        r.setStatus(s.getStatus());
+        r.setManual(s.getManual());
+        r.setLoaders(s.getLoaders());
+        r.setReportTime(s.getReportTime());
+        r.setBattery(s.getBattery());
+        r.setNodeId(s.getNodeId());
+        r.setPosX(s.getPosX());
+        r.setPosY(s.getPosY());
+        r.setSpeed(s.getSpeed());
+        r.setTaskId(s.getTaskId());
+        r.setNextTarget(s.getNextTarget());
+        r.setPodId(s.getPodId());
+        r.setInsDt(s.getInsDt());
+        r.setInsUserId(s.getInsUserId());
+        r.setUpdDt(s.getUpdDt());
+        r.setUpdUserId(s.getUpdUserId());
+        return r;
+    }
+
+    private static MushinyAgvInfoRecord copy(MushinyAgvInfoRecord s) {
+        MushinyAgvInfoRecord r = new MushinyAgvInfoRecord();
+        r.setUuid(s.getUuid());
+        r.setRobotNo(s.getRobotNo());
+        r.setZoneCode(s.getZoneCode());
+        r.setNodeId(s.getNodeId());
+        r.setDirectionFront(s.getDirectionFront());
+        r.setPodId(s.getPodId());
+        r.setPodDirection(s.getPodDirection());
+        r.setStatus(s.getStatus());
+        r.setManual(s.getManual());
+        r.setBattery(s.getBattery());
+        r.setPosX(s.getPosX());
+        r.setPosY(s.getPosY());
+        r.setHasPod(s.getHasPod());
+        r.setInsDt(s.getInsDt());
+        r.setInsUserId(s.getInsUserId());
+        r.setUpdDt(s.getUpdDt());
+        r.setUpdUserId(s.getUpdUserId());
+        return r;
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.WCS_DataStream.etl.harness;
+
+import com.example.WCS_DataStream.etl.common.EtlTraceRecorder;
+import com.example.WCS_DataStream.etl.engine.ETLEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 기록된 트레이스(EtlTraceRecorder) 재생 하네스
+ *
+ * 운영에서 etl.trace.enabled=true 로 남긴 etl-trace-*.jsonl.gz 페이지를 OfflinePipeline 의 엔진에
+ * executePrefetchedETL 로 다시 넣습니다. 변경 감지 스냅샷, 적재, Kafka 직렬화, 오프셋 커밋은 운영 엔진 그대로이며
+ * WCS 조회만 기록된 페이지로 대체됩니다.
+ *   - speed=1x / 10x : 기록 시각 간격을 1/speed 로 줄여 같은 도착 패턴(작업 몰림, 배터리 주기, 구역 이동)을 재현
+ *   - speed=max      : 간격 없이 연속 투입 (최대 처리량)
+ *
+ * 도메인마다 재생 스레드 하나가 페이지를 기록 순서대로 처리하며 다음을 측정합니다.
+ *   - 초당 행 수 (경과 시간 기준, 처리 시간만 합한 기준)
+ *   - 페이지 처리 시간 p50/p99/max
+ *   - 예정 시각 대비 완료 지연 p50/p99/max (1x/10x 에서 엔진이 기록 속도를 따라가는지)
+ * 하네스 파이프라인에 없는 도메인(antRobot, mushinyAgv 외)의 페이지는 건너뛰고 건수만 보고합니다.
+ *
+ * 실행: ./gradlew harness -PharnessMain=TraceReplayHarness -PharnessArgs="--trace=etl-trace --speed=10x"
+ * 인자: trace(파일 또는 디렉터리, 필수) speed(max) domains(antRobot,mushinyAgv) kafka(true) json(결과 JSON 경로, 선택)
+ */
+public final class TraceReplayHarness {
+
+    private TraceReplayHarness() {
+    }
+
+    public static void main(String[] argv) throws Exception {
+        HarnessArgs args = HarnessArgs.parse(argv);
+        String trace = args.string("trace", null);
+        if (trace == null) throw new IllegalArgumentException("--trace=<파일 또는 디렉터리> 가 필요합니다");
+        double speed = parseSpeed(args.string("speed", "max"));
+
+        OfflinePipeline pipeline = new OfflinePipeline(false, args.bool("kafka", true), 1000);
+        Map<String, ReplayWorker> workers = new LinkedHashMap<>();
+        for (String name : args.string("domains", "antRobot,mushinyAgv").split(",")) {
+            ReplayWorker worker = new ReplayWorker(pipeline.domain(name.trim()));
+            workers.put(worker.domain.name(), worker);
+        }
+
+        // 레코드의 계산용 getter 등 setter 없는 속성은 무시
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Map<String, Class<?>> types = new HashMap<>();
+        Map<String, Long> skipped = new LinkedHashMap<>();
+        long wallStart = System.nanoTime();
+        for (ReplayWorker w : workers.values()) w.thread.start();
+
+        long traceStart = -1;
+        long traceEnd = -1;
+        for (Path file : traceFiles(Paths.get(trace))) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file), 64 * 1024), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = readLine(reader, file)) != null) {
+                    if (line.isEmpty()) continue;
+                    JsonNode node;
+                    try {
+                        node = mapper.readTree(line);
+                    } catch (JsonProcessingException e) {
+                        System.err.println("트레이스 줄을 읽을 수 없어 건너뜁니다 (" + file + "): " + e.getOriginalMessage());
+                        continue;
+                    }
+                    String domain = node.get("domain").asText();
+                    ReplayWorker worker = workers.get(domain);
+                    if (worker == null) {
+                        skipped.merge(domain, 1L, Long::sum);
+                        continue;
+                    }
+                    long ts = node.get("ts").asLong();
+                    if (traceStart < 0) traceStart = ts;
+                    traceEnd = ts;
+                    Class<?> type = types.computeIfAbsent(node.get("type").asText(), TraceReplayHarness::loadClass);
+                    List<Object> rows = new ArrayList<>(node.get("rows").size());
+                    for (JsonNode row : node.get("rows")) rows.add(mapper.treeToValue(row, type));
+                    // 1x/10x 는 기록 간격을 1/speed 로 줄인 예정 시각, max 는 즉시
+                    long dueNanos = speed > 0 ? wallStart + (long) ((ts - traceStart) * 1_000_000L / speed) : ReplayPage.IMMEDIATE;
+                    worker.queue.put(new ReplayPage(dueNanos, rows));
+                }
+            }
+        }
+        for (ReplayWorker w : workers.values()) w.queue.put(ReplayPage.END);
+        for (ReplayWorker w : workers.values()) w.thread.join();
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("trace", trace);
+        report.put("speed", speed > 0 ? speed + "x" : "max");
+        report.put("traceSpanSec", traceStart < 0 ? 0 : OfflineThroughputHarness.round((traceEnd - traceStart) / 1000.0));
+        report.put("wallSec", OfflineThroughputHarness.round(wallSeconds));
+        Map<String, Object> domains = new LinkedHashMap<>();
+        for (ReplayWorker w : workers.values()) domains.put(w.domain.name(), w.report(wallSeconds, speed > 0));
+        report.put("domains", domains);
+        report.put("skippedPages", skipped);
+        report.put("kafkaRecords", pipeline.kafka.records.get());
+        report.put("sinkRows", pipeline.sinkSizes());
+
+        System.out.println(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        String json = args.string("json", null);
+        if (json != null) mapper.writerWithDefaultPrettyPrinter().writeValue(new File(json), report);
+    }
+
+    /**
+     * 재생할 페이지 (dueNanos: System.nanoTime 기준 예정 시각, IMMEDIATE 면 즉시)
+     */
+    private record ReplayPage(long dueNanos, List<Object> rows) {
+        static final long IMMEDIATE = Long.MIN_VALUE;
+        static final ReplayPage END = new ReplayPage(IMMEDIATE, List.of());
+
+        boolean paced() {
+            return dueNanos != IMMEDIATE;
+        }
+    }
+
+    /**
+     * 도메인별 재생 스레드 (기록 순서대로 한 페이지씩, 스케줄러처럼 도메인 안에서는 순차)
+     */
+    private static final class ReplayWorker implements Runnable {
+        final OfflinePipeline.Domain domain;
+        final Thread thread;
+        // 읽기 스레드가 재생보다 너무 앞서가지 않도록 제한
+        final BlockingQueue<ReplayPage> queue = new ArrayBlockingQueue<>(256);
+        private final LatencyRecorder service = new LatencyRecorder();
+        private final LatencyRecorder lag = new LatencyRecorder();
+        private long pages;
+        private long rows;
+        private long written;
+        private long busyNanos;
+        private long errors;
+
+        ReplayWorker(OfflinePipeline.Domain domain) {
+            this.domain = domain;
+            this.thread = new Thread(this, "harness-replay-" + domain.name());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            ETLEngine<Object> engine = (ETLEngine<Object>) domain.engine();
+            try {
+                ReplayPage page;
+                while ((page = queue.take()) != ReplayPage.END) {
+                    long wait;
+                    while (page.paced() && (wait = page.dueNanos() - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long t0 = System.nanoTime();
+                    try {
+                        written += engine.executePrefetchedETL(page.rows()).size();
+                    } catch (Exception e) {
+                        errors++;
+                    }
+                    long t1 = System.nanoTime();
+                    service.record(t1 - t0);
+                    if (page.paced()) lag.record(t1 - page.dueNanos());
+                    busyNanos += t1 - t0;
+                    pages++;
+                    rows += page.rows().size();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Map<String, Object> report(double wallSeconds, boolean paced) {
+            Map<String, Object> r = new LinkedHashMap<>();
+            r.put("pages", pages);
+            r.put("rows", rows);
+            r.put("writtenRows", written);
+            r.put("rowsPerSec", OfflineThroughputHarness.round(rows / wallSeconds));
+            r.put("busyRowsPerSec", busyNanos == 0 ? 0 : OfflineThroughputHarness.round(rows / (busyNanos / 1e9)));
+            r.put("pageP50Ms", OfflineThroughputHarness.round(service.percentileMs(0.50)));
+            r.put("pageP99Ms", OfflineThroughputHarness.round(service.percentileMs(0.99)));
+            r.put("pageMaxMs", OfflineThroughputHarness.round(service.maxMs()));
+            if (paced) {
+                r.put("lagP50Ms", OfflineThroughputHarness.round(lag.percentileMs(0.50)));
+                r.put("lagP99Ms", OfflineThroughputHarness.round(lag.percentileMs(0.99)));
+                r.put("lagMaxMs", OfflineThroughputHarness.round(lag.maxMs()));
+            }
+            r.put("errors", errors);
+            return r;
+        }
+    }
+
+    /**
+     * "max" 는 0 (간격 없음), "10x" / "10" 은 10
+     */
+    private static double parseSpeed(String v) {
+        String s = v.trim().toLowerCase();
+        if (s.equals("max")) return 0.0;
+        if (s.endsWith("x")) s = s.substring(0, s.length() - 1);
+        double speed = Double.parseDouble(s);
+        if (speed <= 0) throw new IllegalArgumentException("speed 는 max 또는 0 보다 큰 배속이어야 합니다: " + v);
+        return speed;
+    }
+
+    /**
+     * 디렉터리면 etl-trace-*.jsonl.gz 를 파일명(기록 시작 시각) 순으로
+     */
+    private static List<Path> traceFiles(Path path) throws IOException {
+        if (!Files.isDirectory(path)) return List.of(path);
+        try (Stream<Path> files = Files.list(path)) {
+            return files.filter(p -> {
+                String name = p.getFileName().toString();
+                return name.startsWith(EtlTraceRecorder.FILE_PREFIX) && name.endsWith(EtlTraceRecorder.FILE_SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    /**
+     * 비정상 종료로 gzip 끝이 잘린 파일은 마지막으로 flush 된 줄까지만 읽음
+     */
+    private static String readLine(BufferedReader reader, Path file) throws IOException {
+        try {
+            return reader.readLine();
+        } catch (EOFException e) {
+            System.err.println("트레이스 파일 끝이 잘려 있어 여기까지만 재생합니다: " + file);
+            return null;
+        }
+    }
+
+    private static Class<?> loadClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("트레이스 행 클래스를 찾을 수 없습니다: " + name, e);
+        }
+    }
+}
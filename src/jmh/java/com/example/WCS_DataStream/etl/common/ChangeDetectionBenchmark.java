@@ -0,0 +1,131 @@
+package com.example.WCS_DataStream.etl.common;
+
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import com.example.WCS_DataStream.etl.service.VendorFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 감지 비교 벤치마크 (ANT_ROBOT_INFO, 레코드 쌍당 시간)
+ *
+ * legacySwitch : 변경 전 AntRobotEtlEngine.hasSelectedFieldsChanged, 레코드마다 설정 문자열 split + switch
+ * plan         : ChangeDetectionPlan.hasChanged, 시작 시 컴파일한 getter 배열 순회
+ * fingerprint  : ChangeDetectionPlan.fingerprint (FINGERPRINT 스냅샷 모드의 레코드당 지문 계산)
+ *
+ * scenario=unchanged 는 모든 필드를 끝까지 비교하는 정상 상태(대부분 변경 없음), changed 는 첫 필드에서 끝나는 경우입니다.
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=ChangeDetectionBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChangeDetectionBenchmark {
+
+    static final int PAIRS = 1000;
+
+    static final String FIELDS = "posX,posY,zoneCode,speed,nodeId,nextTarget,taskId,battery,status";
+
+    @Param({"unchanged", "changed"})
+    public String scenario;
+
+    private ChangeDetectionPlan<AntRobotInfoRecord> plan;
+    private List<AntRobotInfoRecord> prev;
+    private List<AntRobotInfoRecord> curr;
+
+    @Setup
+    public void setup() {
+        plan = ChangeDetectionPlan.compile(AntRobotInfoRecord.class, FIELDS);
+        prev = VendorFixtures.antRobotRecords(PAIRS);
+        // 같은 값의 별도 인스턴스 (스냅샷에서 읽은 직전 레코드와 새로 조회한 레코드)
+        curr = VendorFixtures.antRobotRecords(PAIRS);
+        if (scenario.equals("changed")) {
+            for (AntRobotInfoRecord r : curr) {
+                r.setPosX(r.getPosX().add(BigDecimal.ONE));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void legacySwitch(Blackhole bh) {
+        for (int i = 0; i < PAIRS; i++) {
+            bh.consume(hasSelectedFieldsChanged(FIELDS, prev.get(i), curr.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void plan(Blackhole bh) {
+        for (int i = 0; i < PAIRS; i++) {
+            bh.consume(plan.hasChanged(prev.get(i), curr.get(i)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void fingerprint(Blackhole bh) {
+        for (int i = 0; i < PAIRS; i++) {
+            bh.consume(plan.fingerprint(curr.get(i)));
+        }
+    }
+
+    // 변경 전 AntRobotEtlEngine.hasSelectedFieldsChanged
+    private static boolean hasSelectedFieldsChanged(String changeFields, AntRobotInfoRecord prev, AntRobotInfoRecord curr) {
+        if (curr == null) return false;
+        if (prev == null) return true;
+        String cfg = changeFields == null ? "" : changeFields.trim();
+        if (cfg.isEmpty()) return true;
+        String[] fields = cfg.split(",");
+        for (String f : fields) {
+            String key = f.trim().toLowerCase();
+            if (key.isEmpty()) continue;
+            switch (key) {
+                case "posx":
+                    if (!equalsDecimal(prev.getPosX(), curr.getPosX())) return true; else break;
+                case "posy":
+                    if (!equalsDecimal(prev.getPosY(), curr.getPosY())) return true; else break;
+                case "zonecode":
+                    if (!equalsObj(prev.getZoneCode(), curr.getZoneCode())) return true; else break;
+                case "speed":
+                    if (!equalsDecimal(prev.getSpeed(), curr.getSpeed())) return true; else break;
+                case "nodeid":
+                    if (!equalsObj(prev.getNodeId(), curr.getNodeId())) return true; else break;
+                case "nexttarget":
+                    if (!equalsObj(prev.getNextTarget(), curr.getNextTarget())) return true; else break;
+                case "taskid":
+                    if (!equalsObj(prev.getTaskId(), curr.getTaskId())) return true; else break;
+                case "battery":
+                    if (!equalsDecimal(prev.getBattery(), curr.getBattery())) return true; else break;
+                case "status":
+                    if (!equalsObj(prev.getStatus(), curr.getStatus())) return true; else break;
+                default:
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean equalsObj(Object a, Object b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.equals(b);
+    }
+
+    private static boolean equalsDecimal(BigDecimal a, BigDecimal b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤더 레코드 Jackson 직렬화 벤치마크 (레코드당 시간)
+ *
+ * kafkaSerialize : KafkaEventPublisher 가 쓰는 spring.kafka.producer.value-serializer (JsonSerializer 기본 ObjectMapper)
+ * redisWrite     : RedisCacheService 와 같은 ObjectMapper(JavaTimeModule) 로 JSON 바이트 생성
+ * redisRead      : 같은 ObjectMapper 로 JSON 바이트 → 레코드 (RedisCacheService.convert 의 문자열 경로와 같은 파서)
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=JacksonSerializationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonSerializationBenchmark {
+
+    static final int RECORDS = 1000;
+
+    @Param({"antRobot", "antPod", "antFlypick", "mushinyAgv", "mushinyPod"})
+    public String domain;
+
+    private final ObjectMapper redisMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private JsonSerializer<Object> kafkaSerializer;
+    private List<?> records;
+    private Class<?> type;
+    private byte[][] json;
+
+    @Setup
+    public void setup() throws IOException {
+        kafkaSerializer = new JsonSerializer<>();
+        records = records(domain, RECORDS);
+        type = records.get(0).getClass();
+        json = new byte[records.size()][];
+        for (int i = 0; i < json.length; i++) {
+            json[i] = redisMapper.writeValueAsBytes(records.get(i));
+        }
+    }
+
+    static List<?> records(String domain, int count) {
+        return switch (domain) {
+            case "antRobot" -> VendorFixtures.antRobotRecords(count);
+            case "antPod" -> VendorFixtures.antPodRecords(count);
+            case "antFlypick" -> VendorFixtures.antFlypickRecords(count);
+            case "mushinyAgv" -> VendorFixtures.mushinyAgvRecords(count);
+            case "mushinyPod" -> VendorFixtures.mushinyPodRecords(count);
+            default -> throw new IllegalArgumentException(domain);
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void kafkaSerialize(Blackhole bh) {
+        for (Object r : records) {
+            bh.consume(kafkaSerializer.serialize("bench", r));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void redisWrite(Blackhole bh) throws IOException {
+        for (Object r : records) {
+            bh.consume(redisMapper.writeValueAsBytes(r));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void redisRead(Blackhole bh) throws IOException {
+        for (byte[] b : json) {
+            bh.consume(redisMapper.readValue(b, type));
+        }
+    }
+}
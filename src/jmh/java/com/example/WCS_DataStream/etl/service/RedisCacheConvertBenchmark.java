@@ -0,0 +1,85 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisCacheService.get / getAll 의 값 변환 벤치마크 (값당 시간)
+ *
+ * fromMap    : Redis 값이 JSON 객체(Map)로 역직렬화된 경우, convertValue 로 레코드 변환 (현재 스냅샷 조회 경로)
+ * fromString : Redis 값이 JSON 문자열인 경우, readValue
+ * instance   : 값이 이미 레코드 타입인 경우 (캐스트만)
+ *
+ * Redis 왕복은 제외하고 convert 만 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=RedisCacheConvertBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisCacheConvertBenchmark {
+
+    static final int VALUES = 1000;
+
+    @Param({"antRobot", "mushinyAgv"})
+    public String domain;
+
+    private RedisCacheService cache;
+    private Class<?> type;
+    private List<?> records;
+    private Object[] maps;
+    private String[] strings;
+
+    @Setup
+    public void setup() throws IOException {
+        cache = new RedisCacheService(null);
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        records = JacksonSerializationBenchmark.records(domain, VALUES);
+        type = records.get(0).getClass();
+        maps = new Object[records.size()];
+        strings = new String[records.size()];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = mapper.convertValue(records.get(i), Map.class);
+            strings[i] = mapper.writeValueAsString(records.get(i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fromMap(Blackhole bh) {
+        for (Object m : maps) {
+            bh.consume(cache.convert(m, type));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void fromString(Blackhole bh) {
+        for (String s : strings) {
+            bh.consume(cache.convert(s, type));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void instance(Blackhole bh) {
+        for (Object r : records) {
+            bh.consume(cache.convert(r, type));
+        }
+    }
+}
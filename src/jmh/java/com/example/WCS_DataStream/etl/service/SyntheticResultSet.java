@@ -0,0 +1,89 @@
+package com.example.WCS_DataStream.etl.service;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * 벤치마크용 메모리 ResultSet
+ *
+ * 이름 기반 getter 는 드라이버처럼 매 호출마다 컬럼 목록을 대소문자 무시 선형 탐색(findColumn)한 뒤 인덱스 getter 로 위임합니다.
+ * reset() 으로 커서를 처음으로 되돌려 같은 데이터를 반복 사용할 수 있습니다.
+ */
+final class SyntheticResultSet implements InvocationHandler {
+
+    private final String[] columns;
+    private final Object[][] rows;
+    private int cursor = -1;
+    private boolean lastWasNull;
+
+    private SyntheticResultSet(String[] columns, Object[][] rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    static Handle create(String[] columns, Object[][] rows) {
+        SyntheticResultSet handler = new SyntheticResultSet(columns, rows);
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(SyntheticResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, handler);
+        return new Handle(rs, handler);
+    }
+
+    record Handle(ResultSet resultSet, SyntheticResultSet state) {
+        void reset() {
+            state.cursor = -1;
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "next":
+                return ++cursor < rows.length;
+            case "findColumn":
+                return findColumn((String) args[0]);
+            case "wasNull":
+                return lastWasNull;
+            case "close":
+                return null;
+            case "getString":
+            case "getBigDecimal":
+            case "getTimestamp":
+            case "getInt":
+            case "getObject":
+                int column = args[0] instanceof String label ? findColumn(label) : (Integer) args[0];
+                return read(name, column);
+            default:
+                throw new UnsupportedOperationException(name);
+        }
+    }
+
+    private int findColumn(String label) throws SQLException {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(label)) return i + 1;
+        }
+        throw new SQLException("column not found: " + label);
+    }
+
+    private Object read(String getter, int column) {
+        Object v = rows[cursor][column - 1];
+        lastWasNull = v == null;
+        switch (getter) {
+            case "getInt":
+                return v == null ? 0 : ((Number) v).intValue();
+            case "getString":
+                return v == null ? null : v.toString();
+            case "getBigDecimal":
+                return (BigDecimal) v;
+            case "getTimestamp":
+                return (Timestamp) v;
+            default:
+                return v;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntFlypickInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntPodInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
+import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyPodInfoRecord;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 벤더 테이블 합성 데이터
+ *
+ * 컬럼 순서는 각 Wcs*Repository 의 증분 조회와 같으며, 레코드는 실제 Mapper 로 SyntheticResultSet 을 읽어 만듭니다.
+ * 다른 패키지의 벤치마크(변경 감지, 직렬화)도 같은 값 분포를 쓰도록 공개합니다.
+ */
+public final class VendorFixtures {
+
+    static final String[] ANT_POD_COLUMNS = {
+            "UUID", "POD_ID", "POD_FACE", "LOCATION", "REPORT_TIME", "INS_DT", "INS_USER_ID", "UPD_DT", "UPD_USER_ID"
+    };
+
+    static final String[] ANT_FLYPICK_COLUMNS = {
+            "UUID", "ROBOT_NO", "ROBOT_TYPE", "MAP_CODE", "ZONE_CODE", "STATUS", "MANUAL", "REPORT_TIME",
+            "BATTERY", "NODE_ID", "POS_X", "POS_Y", "SPEED", "TASK_ID", "NEXT_TARGET", "POD_ID",
+            "INS_DT", "INS_USER_ID", "UPD_DT", "UPD_USER_ID"
+    };
+
+    static final String[] MUSHINY_AGV_COLUMNS = {
+            "UUID", "ROBOT_NO", "ZONE_CODE", "NODE_ID", "DIRECTION_FRONT", "POD_ID", "POD_DIRECTION",
+            "STATUS", "MANUAL", "BATTERY", "POS_X", "POS_Y", "HAS_POD", "INS_DT", "INS_USER_ID", "UPD_DT", "UPD_USER_ID"
+    };
+
+    static final String[] MUSHINY_POD_COLUMNS = {
+            "UUID", "POD_ID", "SECTION_ID", "ZONE_CODE", "LOCATION", "POD_DIRECTION", "POS_X", "POS_Y",
+            "INS_DT", "INS_USER_ID", "UPD_DT", "UPD_USER_ID"
+    };
+
+    private static final long BASE_MS = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    private VendorFixtures() {
+    }
+
+    static Object[][] antPodRows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            Timestamp ts = ts(i);
+            rows[i] = new Object[]{
+                    "ap-uuid-" + i, "POD_" + (i % 200), i % 4 == 0 ? "A" : "B", "LOC_" + (i % 500),
+                    String.valueOf(1704067200000L + i), ts, "etl", ts, "etl"
+            };
+        }
+        return rows;
+    }
+
+    static Object[][] antFlypickRows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            Timestamp ts = ts(i);
+            rows[i] = new Object[]{
+                    "af-uuid-" + i, "AF_" + (i % 50), "FLYPICK", "MAP_A", "ZONE_" + (i % 10),
+                    i % 7 == 0 ? null : i % 5, i % 2 == 0 ? "Y" : "N", String.valueOf(1704067200000L + i),
+                    new BigDecimal("72.2500"), "NODE_" + (i % 100), BigDecimal.valueOf(i % 1000, 1),
+                    BigDecimal.valueOf((i * 7) % 1000, 1), new BigDecimal("1.5000"), "TASK_" + i,
+                    "TARGET_" + (i % 20), "POD_" + (i % 200), ts, "etl", ts, "etl"
+            };
+        }
+        return rows;
+    }
+
+    static Object[][] mushinyAgvRows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            Timestamp ts = ts(i);
+            rows[i] = new Object[]{
+                    "ma-uuid-" + i, "MA_" + (i % 50), "ZONE_" + (i % 10), "NODE_" + (i % 100), "N",
+                    "POD_" + (i % 200), "E", i % 7 == 0 ? null : i % 5, i % 2 == 0 ? "Y" : "N",
+                    new BigDecimal("64.0000"), BigDecimal.valueOf(i % 1000, 1), BigDecimal.valueOf((i * 7) % 1000, 1),
+                    i % 3 == 0 ? "Y" : "N", ts, "etl", ts, "etl"
+            };
+        }
+        return rows;
+    }
+
+    static Object[][] mushinyPodRows(int count) {
+        Object[][] rows = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            Timestamp ts = ts(i);
+            rows[i] = new Object[]{
+                    "mp-uuid-" + i, "POD_" + (i % 200), i % 16, "ZONE_" + (i % 10), "LOC_" + (i % 500), "S",
+                    BigDecimal.valueOf(i % 1000, 1), BigDecimal.valueOf((i * 7) % 1000, 1), ts, "etl", ts, "etl"
+            };
+        }
+        return rows;
+    }
+
+    public static List<AntRobotInfoRecord> antRobotRecords(int count) {
+        return map(WcsRowMapperBenchmark.ANT_ROBOT_COLUMNS, WcsRowMapperBenchmark.antRobotRows(count), new WcsAntRobotRepository.Mapper());
+    }
+
+    public static List<AntPodInfoRecord> antPodRecords(int count) {
+        return map(ANT_POD_COLUMNS, antPodRows(count), new WcsAntPodRepository.Mapper());
+    }
+
+    public static List<AntFlypickInfoRecord> antFlypickRecords(int count) {
+        return map(ANT_FLYPICK_COLUMNS, antFlypickRows(count), new WcsAntFlypickRepository.Mapper());
+    }
+
+    public static List<MushinyAgvInfoRecord> mushinyAgvRecords(int count) {
+        return map(MUSHINY_AGV_COLUMNS, mushinyAgvRows(count), new WcsMushinyAgvRepository.Mapper());
+    }
+
+    public static List<MushinyPodInfoRecord> mushinyPodRecords(int count) {
+        return map(MUSHINY_POD_COLUMNS, mushinyPodRows(count), new WcsMushinyPodRepository.Mapper());
+    }
+
+    private static <T> List<T> map(String[] columns, Object[][] rows, RowMapper<T> mapper) {
+        ResultSet rs = SyntheticResultSet.create(columns, rows).resultSet();
+        List<T> out = new ArrayList<>(rows.length);
+        try {
+            int rowNum = 0;
+            while (rs.next()) {
+                out.add(mapper.mapRow(rs, rowNum++));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return out;
+    }
+
+    private static Timestamp ts(int i) {
+        return new Timestamp(BASE_MS + i * 100L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.WCS_DataStream.etl.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤더 테이블별 Wcs*Repository.Mapper 벤치마크 (행당 시간)
+ *
+ * 모두 쿼리당 한 번 순번 해석 후 인덱스 읽기 방식이며, ANT_ROBOT_INFO 의 이름 기반 비교는 WcsRowMapperBenchmark 에 있습니다.
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=VendorRowMapperBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VendorRowMapperBenchmark {
+
+    static final int ROWS = 1000;
+
+    private SyntheticResultSet.Handle antRobot;
+    private SyntheticResultSet.Handle antPod;
+    private SyntheticResultSet.Handle antFlypick;
+    private SyntheticResultSet.Handle mushinyAgv;
+    private SyntheticResultSet.Handle mushinyPod;
+
+    @Setup
+    public void setup() {
+        antRobot = SyntheticResultSet.create(WcsRowMapperBenchmark.ANT_ROBOT_COLUMNS, WcsRowMapperBenchmark.antRobotRows(ROWS));
+        antPod = SyntheticResultSet.create(VendorFixtures.ANT_POD_COLUMNS, VendorFixtures.antPodRows(ROWS));
+        antFlypick = SyntheticResultSet.create(VendorFixtures.ANT_FLYPICK_COLUMNS, VendorFixtures.antFlypickRows(ROWS));
+        mushinyAgv = SyntheticResultSet.create(VendorFixtures.MUSHINY_AGV_COLUMNS, VendorFixtures.mushinyAgvRows(ROWS));
+        mushinyPod = SyntheticResultSet.create(VendorFixtures.MUSHINY_POD_COLUMNS, VendorFixtures.mushinyPodRows(ROWS));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void antRobot(Blackhole bh) throws SQLException {
+        mapAll(antRobot, new WcsAntRobotRepository.Mapper(), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void antPod(Blackhole bh) throws SQLException {
+        mapAll(antPod, new WcsAntPodRepository.Mapper(), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void antFlypick(Blackhole bh) throws SQLException {
+        mapAll(antFlypick, new WcsAntFlypickRepository.Mapper(), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mushinyAgv(Blackhole bh) throws SQLException {
+        mapAll(mushinyAgv, new WcsMushinyAgvRepository.Mapper(), bh);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void mushinyPod(Blackhole bh) throws SQLException {
+        mapAll(mushinyPod, new WcsMushinyPodRepository.Mapper(), bh);
+    }
+
+    // 실제 조회처럼 쿼리(= reset)마다 새 Mapper 로 순번을 다시 해석
+    private static <T> void mapAll(SyntheticResultSet.Handle handle, RowMapper<T> mapper, Blackhole bh) throws SQLException {
+        handle.reset();
+        ResultSet rs = handle.resultSet();
+        int rowNum = 0;
+        while (rs.next()) {
+            bh.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WCS 행 매핑 벤치마크 (ANT_ROBOT_INFO, 행당 시간)
+ *
+ * byName  : 기존 방식, 행마다 컬럼 이름 조회 + 정수 NULL 확인을 위한 getObject/getInt 이중 읽기
+ * ordinal : WcsAntRobotRepository.Mapper (ColumnOrdinals), 첫 행에서 int 순번을 final 필드로 한 번 해석 후 필드의 순번으로 읽기 + wasNull
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=WcsRowMapperBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WcsRowMapperBenchmark {
+
+    static final int ROWS = 1000;
+
+    // 실제 조회와 같은 컬럼 순서
+    static final String[] ANT_ROBOT_COLUMNS = {
+            "UUID", "ROBOT_NO", "ROBOT_TYPE", "MAP_CODE", "ZONE_CODE", "STATUS", "MANUAL", "LOADERS",
+            "REPORT_TIME", "BATTERY", "NODE_ID", "POS_X", "POS_Y", "SPEED", "TASK_ID", "NEXT_TARGET",
+            "POD_ID", "INS_DT", "INS_USER_ID", "UPD_DT", "UPD_USER_ID"
+    };
+
+    private SyntheticResultSet.Handle handle;
+
+    @Setup
+    public void setup() {
+        handle = SyntheticResultSet.create(ANT_ROBOT_COLUMNS, antRobotRows(ROWS));
+    }
+
+    static Object[][] antRobotRows(int count) {
+        Object[][] rows = new Object[count][];
+        Timestamp base = Timestamp.valueOf("2024-01-01 00:00:00");
+        for (int i = 0; i < count; i++) {
+            Timestamp ts = new Timestamp(base.getTime() + i * 100L);
+            rows[i] = new Object[]{
+                    "ar-uuid-" + i, "AR_" + (i % 50), "ANT", "MAP_A", "ZONE_" + (i % 10),
+                    i % 7 == 0 ? null : i % 5, i % 2 == 0 ? "Y" : "N", "L" + (i % 3),
+                    String.valueOf(1704067200000L + i), new BigDecimal("85.5000"), "NODE_" + (i % 100),
+                    BigDecimal.valueOf(i % 1000, 1), BigDecimal.valueOf((i * 7) % 1000, 1), new BigDecimal("2.5000"),
+                    "TASK_" + i, "TARGET_" + (i % 20), "POD_" + (i % 200), ts, "etl", ts, "etl"
+            };
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void byName(Blackhole bh) throws SQLException {
+        handle.reset();
+        ResultSet rs = handle.resultSet();
+        int rowNum = 0;
+        while (rs.next()) {
+            bh.consume(mapByName(rs, rowNum++));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void ordinal(Blackhole bh) throws SQLException {
+        handle.reset();
+        ResultSet rs = handle.resultSet();
+        WcsAntRobotRepository.Mapper mapper = new WcsAntRobotRepository.Mapper();
+        int rowNum = 0;
+        while (rs.next()) {
+            bh.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+
+    // 변경 전 WcsAntRobotRepository.mapRow
+    private static AntRobotInfoRecord mapByName(ResultSet rs, int rowNum) throws SQLException {
+        AntRobotInfoRecord r = new AntRobotInfoRecord();
+        r.setUuid(rs.getString("UUID"));
+        r.setRobotNo(rs.getString("ROBOT_NO"));
+        r.setRobotType(rs.getString("ROBOT_TYPE"));
+        r.setMapCode(rs.getString("MAP_CODE"));
+        r.setZoneCode(rs.getString("ZONE_CODE"));
+        r.setStatus(rs.getObject("STATUS") == null ? null : rs.getInt("STATUS"));
+        r.setManual(parseManual(rs.getString("MANUAL")));
+        r.setLoaders(rs.getString("LOADERS"));
+        r.setReportTime(rs.getString("REPORT_TIME"));
+        r.setBattery(rs.getBigDecimal("BATTERY"));
+        r.setNodeId(rs.getString("NODE_ID"));
+        r.setPosX(rs.getBigDecimal("POS_X"));
+        r.setPosY(rs.getBigDecimal("POS_Y"));
+        r.setSpeed(rs.getBigDecimal("SPEED"));
+        r.setTaskId(rs.getString("TASK_ID"));
+        r.setNextTarget(rs.getString("NEXT_TARGET"));
+        r.setPodId(rs.getString("POD_ID"));
+        r.setInsDt(rs.getTimestamp("INS_DT"));
+        r.setInsUserId(rs.getString("INS_USER_ID"));
+        r.setUpdDt(rs.getTimestamp("UPD_DT"));
+        r.setUpdUserId(rs.getString("UPD_USER_ID"));
+        return r;
+    }
+
+    private static Boolean parseManual(String v) {
+        if (v == null) return null;
+        String s = v.trim().toLowerCase();
+        return s.equals("y") || s.equals("yes") || s.equals("1") || s.equals("true");
+    }
+}
@@ -1,113 +1,230 @@
 package com.example.WCS_DataStream.etl;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * ETL 통계 정보 클래스
- * 
+ *
  * ETL 프로세스의 실행 통계를 담습니다.
- * 
+ * 누적 값은 LongAdder 로 집계해 스케줄러/스트리밍/백필 스레드가 동시에 기록해도 유실이 없고,
+ * 조회 측(EtlMetricsBinder, 대시보드)은 잠금 없이 읽습니다.
+ * 최근 1분/5분/15분 처리량(records/s)과 실행 지연 퍼센타일은 10초 단위 버킷의 순환 윈도우로 계산합니다.
+ *
  * @author AGV Monitoring System
  * @version 2.0
  */
 public class ETLStatistics {
-    
+
+    /**
+     * 롤링 윈도우
+     */
+    public enum Window {
+        ONE_MINUTE("1m", 60),
+        FIVE_MINUTES("5m", 300),
+        FIFTEEN_MINUTES("15m", 900);
+
+        private final String tag;
+        private final int seconds;
+
+        Window(String tag, int seconds) {
+            this.tag = tag;
+            this.seconds = seconds;
+        }
+
+        public String tag() { return tag; }
+        public int seconds() { return seconds; }
+    }
+
+    /**
+     * 윈도우별 스냅샷 (대시보드 JSON 용)
+     */
+    public record WindowSnapshot(double recordsPerSecond, double p50Ms, double p95Ms, double p99Ms) {}
+
     /**
      * 총 처리된 레코드 수
      */
-    private long totalProcessedRecords;
-    
+    private final LongAdder totalProcessedRecords = new LongAdder();
+
     /**
      * 성공적으로 처리된 레코드 수
      */
-    private long successfulRecords;
-    
+    private final LongAdder successfulRecords = new LongAdder();
+
     /**
      * 실패한 레코드 수
      */
-    private long failedRecords;
-    
+    private final LongAdder failedRecords = new LongAdder();
+
     /**
      * 건너뛴 레코드 수
      */
-    private long skippedRecords;
-    
+    private final LongAdder skippedRecords = new LongAdder();
+
     /**
      * 총 실행 시간 (밀리초)
      */
-    private long totalExecutionTime;
-    
+    private final LongAdder totalExecutionTime = new LongAdder();
+
     /**
-     * 평균 처리 시간 (밀리초)
+     * 실행 횟수
      */
-    private double averageProcessingTime;
-    
+    private final LongAdder executionCount = new LongAdder();
+
     /**
-     * 마지막 실행 시간
+     * 마지막 실행 시간 (epoch ms, 0 이면 실행 전)
      */
-    private LocalDateTime lastExecutionTime;
-    
+    private volatile long lastExecutionEpochMs;
+
     /**
      * 오류 발생 횟수
      */
-    private long errorCount;
-    
+    private final LongAdder errorCount = new LongAdder();
+
     /**
      * 재시도 횟수
      */
-    private long retryCount;
-    
+    private final LongAdder retryCount = new LongAdder();
+
+    private final LongSupplier clock;
+
+    private final long createdEpochMs;
+
+    private final RollingWindow rolling = new RollingWindow();
+
     // 생성자
-    public ETLStatistics() {}
-    
-    // Getter/Setter 메서드들
-    public long getTotalProcessedRecords() { return totalProcessedRecords; }
-    public void setTotalProcessedRecords(long totalProcessedRecords) { this.totalProcessedRecords = totalProcessedRecords; }
-    
-    public long getSuccessfulRecords() { return successfulRecords; }
-    public void setSuccessfulRecords(long successfulRecords) { this.successfulRecords = successfulRecords; }
-    
-    public long getFailedRecords() { return failedRecords; }
-    public void setFailedRecords(long failedRecords) { this.failedRecords = failedRecords; }
-    
-    public long getSkippedRecords() { return skippedRecords; }
-    public void setSkippedRecords(long skippedRecords) { this.skippedRecords = skippedRecords; }
-    
-    public long getTotalExecutionTime() { return totalExecutionTime; }
-    public void setTotalExecutionTime(long totalExecutionTime) { this.totalExecutionTime = totalExecutionTime; }
-    
-    public double getAverageProcessingTime() { return averageProcessingTime; }
-    public void setAverageProcessingTime(double averageProcessingTime) { this.averageProcessingTime = averageProcessingTime; }
-    
-    public LocalDateTime getLastExecutionTime() { return lastExecutionTime; }
-    public void setLastExecutionTime(LocalDateTime lastExecutionTime) { this.lastExecutionTime = lastExecutionTime; }
-    
-    public long getErrorCount() { return errorCount; }
-    public void setErrorCount(long errorCount) { this.errorCount = errorCount; }
-    
-    public long getRetryCount() { return retryCount; }
-    public void setRetryCount(long retryCount) { this.retryCount = retryCount; }
-    
+    public ETLStatistics() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * 시각 공급자 지정 (테스트에서 버킷 경계를 고정)
+     */
+    ETLStatistics(LongSupplier clock) {
+        this.clock = clock;
+        this.createdEpochMs = clock.getAsLong();
+    }
+
+    /**
+     * 실행 1회 기록
+     *
+     * @param processedRecords 추출(처리 대상) 건수
+     * @param successfulRecords 적재 건수
+     * @param executionTimeMs 실행 시간
+     */
+    public void recordExecution(long processedRecords, long successfulRecords, long executionTimeMs) {
+        long now = clock.getAsLong();
+        this.totalProcessedRecords.add(processedRecords);
+        this.successfulRecords.add(successfulRecords);
+        this.skippedRecords.add(Math.max(0L, processedRecords - successfulRecords));
+        this.totalExecutionTime.add(executionTimeMs);
+        this.executionCount.increment();
+        this.lastExecutionEpochMs = now;
+        rolling.record(now, processedRecords, executionTimeMs);
+    }
+
+    /**
+     * 실패한 실행 기록 (롤백된 레코드 수)
+     */
+    public void recordFailure(long failedRecords) {
+        this.failedRecords.add(Math.max(0L, failedRecords));
+        this.errorCount.increment();
+    }
+
+    public void recordRetry() {
+        retryCount.increment();
+    }
+
+    // Getter 메서드들 (누적 값)
+    public long getTotalProcessedRecords() { return totalProcessedRecords.sum(); }
+
+    public long getSuccessfulRecords() { return successfulRecords.sum(); }
+
+    public long getFailedRecords() { return failedRecords.sum(); }
+
+    public long getSkippedRecords() { return skippedRecords.sum(); }
+
+    public long getTotalExecutionTime() { return totalExecutionTime.sum(); }
+
+    public long getExecutionCount() { return executionCount.sum(); }
+
+    /**
+     * 누적 레코드당 평균 처리 시간 (밀리초)
+     */
+    public double getAverageProcessingTime() {
+        long records = getTotalProcessedRecords();
+        return records == 0 ? 0.0 : (double) getTotalExecutionTime() / records;
+    }
+
+    public LocalDateTime getLastExecutionTime() {
+        long t = lastExecutionEpochMs;
+        return t == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(t), ZoneId.systemDefault());
+    }
+
+    public long getLastExecutionEpochMs() { return lastExecutionEpochMs; }
+
+    public long getErrorCount() { return errorCount.sum(); }
+
+    public long getRetryCount() { return retryCount.sum(); }
+
+    /**
+     * 최근 윈도우 처리량 (records/s, 기동 후 윈도우보다 짧으면 경과 시간 기준)
+     */
+    public double getRecordsPerSecond(Window window) {
+        long now = clock.getAsLong();
+        double seconds = Math.max(1.0, Math.min(window.seconds(), (now - createdEpochMs) / 1000.0));
+        return rolling.records(now, window) / seconds;
+    }
+
+    /**
+     * 최근 윈도우 실행 지연 퍼센타일 (밀리초, 실행이 없으면 0)
+     *
+     * @param quantile 0~1 (예: 0.95)
+     */
+    public double getLatencyPercentileMs(Window window, double quantile) {
+        return rolling.percentile(clock.getAsLong(), window, quantile);
+    }
+
+    /**
+     * 1m/5m/15m 윈도우 스냅샷
+     */
+    public Map<String, WindowSnapshot> getWindows() {
+        Map<String, WindowSnapshot> windows = new LinkedHashMap<>();
+        for (Window w : Window.values()) {
+            windows.put(w.tag(), new WindowSnapshot(getRecordsPerSecond(w),
+                    getLatencyPercentileMs(w, 0.50), getLatencyPercentileMs(w, 0.95), getLatencyPercentileMs(w, 0.99)));
+        }
+        return windows;
+    }
+
     /**
      * 성공률 계산
      */
     public double getSuccessRate() {
-        if (totalProcessedRecords == 0) {
+        long total = getTotalProcessedRecords();
+        if (total == 0) {
             return 0.0;
         }
-        return (double) successfulRecords / totalProcessedRecords * 100.0;
+        return (double) getSuccessfulRecords() / total * 100.0;
     }
-    
+
     /**
      * 실패률 계산
      */
     public double getFailureRate() {
-        if (totalProcessedRecords == 0) {
+        long total = getTotalProcessedRecords();
+        if (total == 0) {
             return 0.0;
         }
-        return (double) failedRecords / totalProcessedRecords * 100.0;
+        return (double) getFailedRecords() / total * 100.0;
     }
-    
+
     /**
      * 통계 정보를 문자열로 반환
      */
@@ -115,9 +232,102 @@ public class ETLStatistics {
     public String toString() {
         return String.format(
             "ETL Statistics: Total=%d, Success=%d, Failed=%d, Skipped=%d, " +
-            "SuccessRate=%.2f%%, AvgTime=%.2fms, Errors=%d, Retries=%d",
-            totalProcessedRecords, successfulRecords, failedRecords, skippedRecords,
-            getSuccessRate(), averageProcessingTime, errorCount, retryCount
+            "SuccessRate=%.2f%%, AvgTime=%.2fms, Errors=%d, Retries=%d, Rate1m=%.1f/s, P95(1m)=%.0fms",
+            getTotalProcessedRecords(), getSuccessfulRecords(), getFailedRecords(), getSkippedRecords(),
+            getSuccessRate(), getAverageProcessingTime(), getErrorCount(), getRetryCount(),
+            getRecordsPerSecond(Window.ONE_MINUTE), getLatencyPercentileMs(Window.ONE_MINUTE, 0.95)
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * 10초 버킷 90개(15분) 순환 윈도우
+     *
+     * 버킷마다 레코드 수와 실행 지연 로그 히스토그램(2배당 4구간, 1ms~약 17분)을 둡니다.
+     * 기록은 원자 카운터 증가만 하며, 버킷이 새 10초 구간으로 넘어갈 때만 해당 버킷을 잠그고 초기화합니다.
+     * 조회는 윈도우 안의 버킷만 합산하므로 오래된 버킷은 초기화 전에도 결과에 섞이지 않습니다.
+     */
+    private static final class RollingWindow {
+        private static final long BUCKET_MS = 10_000L;
+        private static final int BUCKETS = 90;
+        private static final int BINS_PER_DOUBLING = 4;
+        private static final int BINS = 20 * BINS_PER_DOUBLING + 1;
+
+        private final Bucket[] buckets = new Bucket[BUCKETS];
+
+        RollingWindow() {
+            for (int i = 0; i < BUCKETS; i++) buckets[i] = new Bucket();
+        }
+
+        void record(long nowMs, long records, long latencyMs) {
+            long epoch = nowMs / BUCKET_MS;
+            Bucket b = buckets[(int) (epoch % BUCKETS)];
+            if (b.epoch != epoch) {
+                synchronized (b) {
+                    if (b.epoch != epoch) {
+                        b.reset();
+                        b.epoch = epoch;
+                    }
+                }
+            }
+            b.records.add(records);
+            b.latency.incrementAndGet(bin(latencyMs));
+        }
+
+        long records(long nowMs, Window window) {
+            long sum = 0;
+            for (Bucket b : buckets) {
+                if (inWindow(b.epoch, nowMs, window)) sum += b.records.sum();
+            }
+            return sum;
+        }
+
+        double percentile(long nowMs, Window window, double quantile) {
+            long[] counts = new long[BINS];
+            long total = 0;
+            for (Bucket b : buckets) {
+                if (!inWindow(b.epoch, nowMs, window)) continue;
+                for (int i = 0; i < BINS; i++) {
+                    long c = b.latency.get(i);
+                    counts[i] += c;
+                    total += c;
+                }
+            }
+            if (total == 0) return 0.0;
+            long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, quantile)) * total);
+            long seen = 0;
+            for (int i = 0; i < BINS; i++) {
+                seen += counts[i];
+                if (seen >= Math.max(1L, rank)) return upperBoundMs(i);
+            }
+            return upperBoundMs(BINS - 1);
+        }
+
+        private static boolean inWindow(long epoch, long nowMs, Window window) {
+            long current = nowMs / BUCKET_MS;
+            long span = window.seconds() * 1000L / BUCKET_MS;
+            return epoch > current - span && epoch <= current;
+        }
+
+        // 0ms 는 0번, 이후 상한 2^(i/4) ms 인 로그 구간
+        private static int bin(long latencyMs) {
+            if (latencyMs <= 1) return 0;
+            int i = (int) Math.ceil(Math.log(latencyMs) / Math.log(2) * BINS_PER_DOUBLING);
+            return Math.min(BINS - 1, i);
+        }
+
+        private static double upperBoundMs(int bin) {
+            return Math.pow(2.0, (double) bin / BINS_PER_DOUBLING);
+        }
+
+        private static final class Bucket {
+            volatile long epoch = -1;
+            final LongAdder records = new LongAdder();
+            final AtomicLongArray latency = new AtomicLongArray(BINS);
+
+            void reset() {
+                records.reset();
+                for (int i = 0; i < BINS; i++) latency.set(i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.WCS_DataStream.etl.common;
+
+/**
+ * 증분 추출 페이지 크기 조절기
+ *
+ * 페이지 한 건(추출 + 적재)의 소요 시간이 목표 지연(targetLatencyMs)에 맞도록 다음 페이지 크기를 조절합니다.
+ * 관측된 행당 시간으로 목표에 맞는 크기를 추정하되, 한 번에 절반~두 배 범위로만 움직이며
+ * 가득 차지 않은 페이지로는 크기를 키우지 않습니다. targetLatencyMs 가 0 이하이면 고정 크기로 동작합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class AdaptivePageSizer {
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyMs;
+    private volatile int current;
+    private volatile int lastRequested;
+    private volatile boolean lastPageFull;
+
+    public AdaptivePageSizer(int initialSize, int minSize, int maxSize, long targetLatencyMs) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.targetLatencyMs = targetLatencyMs;
+        this.current = clamp(initialSize);
+    }
+
+    public static AdaptivePageSizer fixed(int size) {
+        return new AdaptivePageSizer(size, size, size, 0L);
+    }
+
+    /**
+     * 이번 페이지 요청 크기
+     */
+    public int next() {
+        int size = current;
+        lastRequested = size;
+        return size;
+    }
+
+    /**
+     * 페이지 처리 결과 반영
+     *
+     * @param fetched 추출된 행 수
+     * @param elapsedMs 추출 + 적재 소요 시간
+     */
+    public void observe(int fetched, long elapsedMs) {
+        int requested = lastRequested;
+        lastRequested = 0;
+        // next() 없이 실행된 경우(전체 조회 엔진 등)는 페이지 개념이 없음
+        if (requested <= 0) {
+            lastPageFull = false;
+            return;
+        }
+        boolean full = fetched >= requested;
+        lastPageFull = full;
+        if (targetLatencyMs <= 0 || fetched <= 0) return;
+        long ideal = fetched * targetLatencyMs / Math.max(1L, elapsedMs);
+        if (!full) ideal = Math.min(ideal, requested);
+        ideal = Math.max(requested / 2, Math.min(ideal, (long) requested * 2));
+        current = clamp(ideal);
+    }
+
+    /**
+     * 실행 실패 시 드레인 중단
+     */
+    public void abort() {
+        lastRequested = 0;
+        lastPageFull = false;
+    }
+
+    /**
+     * 직전 페이지가 가득 찼는지 (백로그가 남아 있을 가능성)
+     */
+    public boolean isLastPageFull() {
+        return lastPageFull;
+    }
+
+    public int current() {
+        return current;
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(minSize, Math.min(maxSize, size));
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.WCS_DataStream.etl.common;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 변경 감지 필드 비교 계획
+ *
+ * etl.changeDetection.* 설정(콤마 구분 필드명)을 시작 시 한 번만 해석해 getter 접근자 배열로 컴파일합니다.
+ * 레코드마다 문자열 파싱/switch 없이 접근자 배열만 순회하며, BigDecimal 은 compareTo, 그 외는 equals 로 비교합니다.
+ * 필드명은 대소문자를 구분하지 않으며, 레코드 타입에 없는 필드명은 IllegalArgumentException 으로 시작 시 거부합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class ChangeDetectionPlan<T> {
+
+    private final Class<T> type;
+    private final String[] fieldNames;
+    private final Function<T, Object>[] getters;
+    private final boolean[] decimal;
+
+    private ChangeDetectionPlan(Class<T> type, String[] fieldNames, Function<T, Object>[] getters, boolean[] decimal) {
+        this.type = type;
+        this.fieldNames = fieldNames;
+        this.getters = getters;
+        this.decimal = decimal;
+    }
+
+    public static <T> ChangeDetectionPlan<T> compile(Class<T> type, String fields) {
+        return compile(type, fields, Map.of());
+    }
+
+    /**
+     * @param type 레코드 타입
+     * @param fields 콤마 구분 필드명 (빈 값이면 항상 변경으로 간주)
+     * @param aliases 설정 필드명 → 실제 getter 필드명 매핑 (소문자)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ChangeDetectionPlan<T> compile(Class<T> type, String fields, Map<String, String> aliases) {
+        Map<String, Method> getterByField = findGetters(type);
+        List<String> names = new ArrayList<>();
+        List<Function<T, Object>> getters = new ArrayList<>();
+        List<Boolean> decimals = new ArrayList<>();
+        String cfg = fields == null ? "" : fields.trim();
+        if (!cfg.isEmpty()) {
+            for (String f : cfg.split(",")) {
+                String key = f.trim().toLowerCase(Locale.ROOT);
+                if (key.isEmpty() || names.contains(key)) continue;
+                String target = aliases.getOrDefault(key, key);
+                Method getter = getterByField.get(target);
+                if (getter == null) {
+                    throw new IllegalArgumentException("알 수 없는 변경 감지 필드: " + f.trim() + " (" + type.getSimpleName() + ", 사용 가능: " + getterByField.keySet() + ")");
+                }
+                names.add(key);
+                getters.add(toFunction(type, getter));
+                decimals.add(BigDecimal.class.isAssignableFrom(getter.getReturnType()));
+            }
+        }
+        boolean[] decimal = new boolean[decimals.size()];
+        for (int i = 0; i < decimal.length; i++) decimal[i] = decimals.get(i);
+        return new ChangeDetectionPlan<>(type, names.toArray(new String[0]), getters.toArray(new Function[0]), decimal);
+    }
+
+    /**
+     * 선택 필드 중 하나라도 다르면 true. prev 가 없거나 필드 지정이 없으면 항상 true.
+     */
+    public boolean hasChanged(T prev, T curr) {
+        if (curr == null) return false;
+        // prev가 없으면 신규로 간주하여 처리
+        if (prev == null) return true;
+        // 설정이 비어있으면 항상 처리(명시적으로 필드 지정 시에만 비교)
+        if (getters.length == 0) return true;
+        for (int i = 0; i < getters.length; i++) {
+            Object a = getters[i].apply(prev);
+            Object b = getters[i].apply(curr);
+            if (a == b) continue;
+            if (a == null || b == null) return true;
+            if (decimal[i] ? ((BigDecimal) a).compareTo((BigDecimal) b) != 0 : !a.equals(b)) return true;
+        }
+        // 모든 지정 필드가 동일하면 변화 없음 → 처리 스킵
+        return false;
+    }
+
+    /**
+     * 선택 필드 값의 64비트 지문. hasChanged 와 같은 동등성(BigDecimal 은 스케일 무시)을 따르므로
+     * 지문이 같으면 변화 없음으로 간주합니다. 필드 순서가 바뀌면 지문도 달라집니다.
+     */
+    public long fingerprint(T record) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < getters.length; i++) {
+            h = mix(h ^ valueHash(getters[i].apply(record), decimal[i]));
+        }
+        return h;
+    }
+
+    private static long valueHash(Object v, boolean decimal) {
+        if (v == null) return 0x6A09E667F3BCC909L;
+        if (decimal) {
+            BigDecimal d = (BigDecimal) v;
+            if (d.signum() == 0) return 0L;
+            d = d.stripTrailingZeros();
+            if (d.unscaledValue().bitLength() < 64) {
+                return mix(d.unscaledValue().longValue()) ^ d.scale();
+            }
+            return stringHash(d.toPlainString());
+        }
+        if (v instanceof String s) return stringHash(s);
+        if (v instanceof java.sql.Timestamp ts) return mix(ts.getTime()) ^ ts.getNanos();
+        if (v instanceof Number n) return mix(n.longValue());
+        if (v instanceof Boolean b) return b ? 0x3C6EF372FE94F82BL : 0xA54FF53A5F1D36F1L;
+        return mix(v.hashCode());
+    }
+
+    private static long stringHash(String s) {
+        // FNV-1a 64
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static long mix(long z) {
+        // splitmix64 finalizer
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public boolean isEmpty() {
+        return getters.length == 0;
+    }
+
+    /**
+     * 비교 대상 필드 값을 순서대로 읽습니다 (지문 계산 등 다른 비교 방식에서 재사용)
+     */
+    public Object valueAt(int index, T record) {
+        return getters[index].apply(record);
+    }
+
+    public boolean isDecimal(int index) {
+        return decimal[index];
+    }
+
+    public int size() {
+        return getters.length;
+    }
+
+    public List<String> getFieldNames() {
+        return List.of(fieldNames);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    private static Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> result = new HashMap<>();
+        for (Method m : type.getMethods()) {
+            if (m.getParameterCount() != 0 || Modifier.isStatic(m.getModifiers())) continue;
+            if (m.getReturnType() == void.class || m.getDeclaringClass() == Object.class) continue;
+            String name = m.getName();
+            String field;
+            if (name.startsWith("get") && name.length() > 3) {
+                field = name.substring(3);
+            } else if (name.startsWith("is") && name.length() > 2 && (m.getReturnType() == boolean.class || m.getReturnType() == Boolean.class)) {
+                field = name.substring(2);
+            } else {
+                continue;
+            }
+            result.put(field.toLowerCase(Locale.ROOT), m);
+        }
+        return result;
+    }
+
+    /**
+     * getter 를 LambdaMetafactory 로 Function 구현체로 변환 (리플렉션/MethodHandle 호출 비용 없이 JIT 인라인 가능)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, Object> toFunction(Class<T> type, Method getter) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(getter);
+            Class<?> returnType = getter.getReturnType().isPrimitive()
+                    ? MethodType.methodType(getter.getReturnType()).wrap().returnType()
+                    : getter.getReturnType();
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(returnType, type));
+            return (Function<T, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("getter 컴파일 실패: " + type.getSimpleName() + "." + getter.getName(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type.getSimpleName() + List.of(fieldNames);
+    }
+}
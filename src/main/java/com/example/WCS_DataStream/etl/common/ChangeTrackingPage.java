@@ -0,0 +1,42 @@
+package com.example.WCS_DataStream.etl.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change Tracking 변경 조회 한 페이지
+ *
+ * 행은 (SYS_CHANGE_VERSION, 기본 키) 오름차순이며, 마지막 행의 버전/키가 다음 페이지의 시작점입니다.
+ * 기본 키는 대부분 UUID 이고 ANT_FLYPICK_INFO 는 ROBOT_NO 이며, 어느 쪽이든 오프셋의 lastUuid 자리에 저장됩니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class ChangeTrackingPage<T> {
+
+    private final List<T> rows = new ArrayList<>();
+    private long lastVersion = -1L;
+    private String lastUuid;
+
+    public void add(T row, long version, String uuid) {
+        rows.add(row);
+        lastVersion = version;
+        lastUuid = uuid;
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public long getLastVersion() {
+        return lastVersion;
+    }
+
+    public String getLastUuid() {
+        return lastUuid;
+    }
+}
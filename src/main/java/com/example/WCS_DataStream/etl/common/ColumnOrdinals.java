@@ -0,0 +1,54 @@
+package com.example.WCS_DataStream.etl.common;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 결과 집합 컬럼 순번 캐시 (Wcs*Repository 행 매퍼 공용)
+ *
+ * ResultSet.getXxx(String) 는 행마다 컬럼 이름을 다시 찾습니다(mssql-jdbc 는 대소문자 무시 선형 탐색).
+ * 매퍼는 컬럼별 int 순번을 final 필드로 갖는 클래스(C)를 두고, 여기서 첫 행에 한 번만 만들어(findColumn) 재사용합니다.
+ * 이후 행은 필드의 순번으로 바로 읽으므로 이름 조회, 맵 조회, 박싱이 없습니다.
+ * 순번은 조회의 SELECT 목록에 따라 달라지므로 매퍼(와 이 캐시)는 조회마다 새로 만들며, 한 조회 안에서만 씁니다.
+ *
+ * @param <C> 컬럼 순번 필드 묶음
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class ColumnOrdinals<C> {
+
+    /**
+     * 결과 집합에서 컬럼 순번 묶음 생성 (보통 생성자 참조)
+     */
+    @FunctionalInterface
+    public interface Resolver<C> {
+        C resolve(ResultSet rs) throws SQLException;
+    }
+
+    private final Resolver<C> resolver;
+    private C columns;
+
+    public ColumnOrdinals(Resolver<C> resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * 컬럼 순번 묶음 (첫 행에서 한 번만 해석)
+     */
+    public C of(ResultSet rs) throws SQLException {
+        C c = columns;
+        if (c == null) {
+            c = resolver.resolve(rs);
+            columns = c;
+        }
+        return c;
+    }
+
+    /**
+     * NULL 이면 null (getInt 는 0 을 반환하므로 wasNull 로 구분)
+     */
+    public static Integer getInteger(ResultSet rs, int column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
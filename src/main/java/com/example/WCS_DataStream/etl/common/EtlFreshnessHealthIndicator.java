@@ -0,0 +1,61 @@
+package com.example.WCS_DataStream.etl.common;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/health 의 etlFreshness 구성요소
+ *
+ * 어느 도메인이든 EtlFreshnessMonitor.effectiveLagSeconds 가 etl.freshness.lagSloSeconds 를 넘으면 DEGRADED 입니다.
+ * DEGRADED 는 HTTP 200 으로 응답하도록 매핑(application.properties)해 프로브가 재시작하지 않고 알림만 받게 합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component("etlFreshness")
+public class EtlFreshnessHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "ETL 데이터 지연이 SLO 초과");
+
+    private final EtlFreshnessMonitor monitor;
+
+    public EtlFreshnessHealthIndicator(EtlFreshnessMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Health health() {
+        if (!monitor.isEnabled()) {
+            return Health.unknown().withDetail("reason", "etl.freshness.enabled=false").build();
+        }
+        long slo = monitor.getLagSloSeconds();
+        boolean degraded = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (EtlFreshnessMonitor.DomainFreshness d : monitor.getDomains()) {
+            double lag = d.effectiveLagSeconds();
+            // 지연을 알 수 없는 도메인(뷰, 초기화 전)은 판단에서 제외
+            if (Double.isNaN(lag)) continue;
+            boolean breached = lag > slo;
+            degraded |= breached;
+            Map<String, Object> domain = new LinkedHashMap<>();
+            domain.put("lagSeconds", Math.round(lag));
+            domain.put("offsetAgeSeconds", round(d.offsetAgeSeconds()));
+            domain.put("backlog", d.backlog());
+            domain.put("breached", breached);
+            details.put(d.getDomain(), domain);
+        }
+        return Health.status(degraded ? DEGRADED : Status.UP)
+                .withDetail("lagSloSeconds", slo)
+                .withDetails(details)
+                .build();
+    }
+
+    private static Object round(double seconds) {
+        return Double.isNaN(seconds) ? null : Math.round(seconds);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.WCS_DataStream.etl.common;
+
+import com.example.WCS_DataStream.etl.engine.ETLEngine;
+import com.example.WCS_DataStream.etl.service.EtlOffsetStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도메인별 데이터 신선도 / 지연 지표
+ *
+ * etl_freshness_lag_seconds{domain} : 현재 - 적재한 최신 행의 UPD_DT/INS_DT
+ * etl_offset_age_seconds{domain}    : 현재 - 커밋된 오프셋 시각 (EtlOffsetStore)
+ * etl_backlog_rows{domain}          : 오프셋 이후 아직 추출하지 않은 WCS 행 수 (backlogCap 까지, 주기 샘플링)
+ * 적재 시점 지연 분포는 EtlPhaseMetrics 의 etl_source_to_sink_lag 히스토그램입니다.
+ *
+ * 오프셋/백로그는 sampleIntervalMs 주기로만 조회하며, 값을 알 수 없는 도메인(뷰 전체 조회, 초기화 전)은 NaN 입니다.
+ * EtlFreshnessHealthIndicator 가 같은 값으로 SLO 를 판단합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class EtlFreshnessMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(EtlFreshnessMonitor.class);
+
+    private final List<DomainFreshness> domains = new ArrayList<>();
+    private final boolean enabled;
+    private final int backlogCap;
+    private final long lagSloSeconds;
+
+    public EtlFreshnessMonitor(MeterRegistry registry, List<ETLEngine<?>> engines,
+                               @Value("${etl.freshness.enabled:true}") boolean enabled,
+                               @Value("${etl.freshness.backlogCap:100000}") int backlogCap,
+                               @Value("${etl.freshness.lagSloSeconds:300}") long lagSloSeconds) {
+        this.enabled = enabled;
+        this.backlogCap = Math.max(1, backlogCap);
+        this.lagSloSeconds = Math.max(1L, lagSloSeconds);
+        for (ETLEngine<?> engine : engines) {
+            DomainFreshness d = new DomainFreshness(EtlMetricsBinder.domainOf(engine), engine);
+            domains.add(d);
+            Gauge.builder("etl_freshness_lag_seconds", d, DomainFreshness::lagSeconds)
+                    .tag("domain", d.domain).register(registry);
+            Gauge.builder("etl_offset_age_seconds", d, DomainFreshness::offsetAgeSeconds)
+                    .tag("domain", d.domain).register(registry);
+            Gauge.builder("etl_backlog_rows", d, x -> x.backlog < 0 ? Double.NaN : x.backlog)
+                    .tag("domain", d.domain).register(registry);
+        }
+    }
+
+    /**
+     * 오프셋 / 백로그 샘플링 (초기화된 엔진만, 실패한 도메인은 값을 모름으로 되돌림)
+     */
+    @Scheduled(fixedDelayString = "${etl.freshness.sampleIntervalMs:30000}",
+               initialDelayString = "${etl.freshness.sampleIntervalMs:30000}")
+    public void sample() {
+        if (!enabled) return;
+        for (DomainFreshness d : domains) {
+            if (d.engine.getConfig() == null) continue;
+            try {
+                EtlOffsetStore.Offset off = d.engine.getCommittedOffset();
+                d.offsetTsMs = (off != null && off.lastTs != null) ? off.lastTs.getTime() : 0L;
+                d.backlog = d.engine.estimateBacklog(backlogCap);
+            } catch (Exception e) {
+                d.backlog = -1;
+                log.debug("{} 신선도 샘플링 실패: {}", d.domain, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getLagSloSeconds() {
+        return lagSloSeconds;
+    }
+
+    public int getBacklogCap() {
+        return backlogCap;
+    }
+
+    public List<DomainFreshness> getDomains() {
+        return domains;
+    }
+
+    /**
+     * 도메인 신선도 상태
+     */
+    public static final class DomainFreshness {
+        private final String domain;
+        private final ETLEngine<?> engine;
+        private volatile long offsetTsMs;
+        private volatile long backlog = -1;
+
+        DomainFreshness(String domain, ETLEngine<?> engine) {
+            this.domain = domain;
+            this.engine = engine;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public double lagSeconds() {
+            return ageSeconds(engine.getNewestWrittenSourceMs());
+        }
+
+        public double offsetAgeSeconds() {
+            return ageSeconds(offsetTsMs);
+        }
+
+        /**
+         * 오프셋 이후 행 수 (-1 이면 모름)
+         */
+        public long backlog() {
+            return backlog;
+        }
+
+        /**
+         * SLO 판단용 지연
+         *
+         * 오프셋은 변경 없는 행도 넘어가므로 적재 최신 시각과 오프셋 시각 중 늦은 쪽을 기준으로 하고,
+         * 백로그가 0 이면 원본에 새 변경이 없는 것이므로 지연이 아닌 0 으로 봅니다. 둘 다 모르면 NaN 입니다.
+         */
+        public double effectiveLagSeconds() {
+            if (backlog == 0) return 0.0;
+            return ageSeconds(Math.max(engine.getNewestWrittenSourceMs(), offsetTsMs));
+        }
+
+        private static double ageSeconds(long epochMs) {
+            if (epochMs <= 0) return Double.NaN;
+            // WCS/JVM 시계 차이로 미래 시각이면 0
+            return Math.max(0L, System.currentTimeMillis() - epochMs) / 1000.0;
+        }
+    }
+}
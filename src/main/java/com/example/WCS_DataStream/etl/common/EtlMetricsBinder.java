@@ -1,56 +1,60 @@
 package com.example.WCS_DataStream.etl.common;
 
 
-import com.example.WCS_DataStream.etl.engine.AntRobotEtlEngine;
-import com.example.WCS_DataStream.etl.engine.MushinyAgvEtlEngine;
-import com.example.WCS_DataStream.etl.engine.AntFlypickEtlEngine;
-import com.example.WCS_DataStream.etl.engine.AntPodEtlEngine;
-import com.example.WCS_DataStream.etl.engine.MushinyPodEtlEngine;
 import com.example.WCS_DataStream.etl.ETLStatistics;
+import com.example.WCS_DataStream.etl.engine.ETLEngine;
 import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.List;
 
 @Component
 public class EtlMetricsBinder {
 
-    public EtlMetricsBinder(MeterRegistry registry,
-                            ObjectProvider<AntRobotEtlEngine> antRobot,
-                            ObjectProvider<MushinyAgvEtlEngine> mushinyAgv,
-                            ObjectProvider<AntFlypickEtlEngine> antFlypick,
-                            ObjectProvider<AntPodEtlEngine> antPod,
-                            ObjectProvider<MushinyPodEtlEngine> mushinyPod) {
-
-        antRobot.ifAvailable(e -> registerDomain(registry, "antRobot", e));
-        mushinyAgv.ifAvailable(e -> registerDomain(registry, "mushinyAgv", e));
-        antFlypick.ifAvailable(e -> registerDomain(registry, "antFlypick", e));
-        antPod.ifAvailable(e -> registerDomain(registry, "antPod", e));
-        mushinyPod.ifAvailable(e -> registerDomain(registry, "mushinyPod", e));
+    public EtlMetricsBinder(MeterRegistry registry, List<ETLEngine<?>> engines) {
+        // 모든 ETLEngine 빈(벤더 + 뷰)에 도메인 태그로 등록: AntRobotEtlEngine -> antRobot, CapaDayViewEtlEngine -> capaDayView
+        for (ETLEngine<?> engine : engines) {
+            String domain = domainOf(engine);
+            registerDomain(registry, domain, engine);
+            engine.bindMetrics(new EtlPhaseMetrics(registry, domain));
+        }
     }
 
-    private static void registerDomain(MeterRegistry registry, String domain, Object engine) {
+    private static void registerDomain(MeterRegistry registry, String domain, ETLEngine<?> engine) {
         // 최근 실행 시간
-        Gauge.builder("etl_last_execution_epoch_ms", () -> toEpochMs(((com.example.WCS_DataStream.etl.engine.ETLEngine<?>) engine).getStatistics()))
+        Gauge.builder("etl_last_execution_epoch_ms", () -> toEpochMs(engine.getStatistics()))
                 .tag("domain", domain).register(registry);
         // 누적 성공 건수
-        FunctionCounter.builder("etl_processed_records_total",
-                        (com.example.WCS_DataStream.etl.engine.ETLEngine<?>) engine,
+        FunctionCounter.builder("etl_processed_records_total", engine,
                         e -> safeDouble(e.getStatistics().getSuccessfulRecords()))
                 .tag("domain", domain).register(registry);
+        // 최근 1m/5m/15m 처리량과 실행 지연 퍼센타일 (ETLStatistics 롤링 윈도우)
+        for (ETLStatistics.Window window : ETLStatistics.Window.values()) {
+            Gauge.builder("etl_records_per_second", engine, e -> e.getStatistics().getRecordsPerSecond(window))
+                    .tag("domain", domain).tag("window", window.tag()).register(registry);
+            for (double q : new double[] { 0.5, 0.95, 0.99 }) {
+                Gauge.builder("etl_execution_latency_ms", engine, e -> e.getStatistics().getLatencyPercentileMs(window, q))
+                        .tag("domain", domain).tag("window", window.tag()).tag("quantile", String.valueOf(q))
+                        .register(registry);
+            }
+        }
+    }
+
+    static String domainOf(ETLEngine<?> engine) {
+        String name = engine.getClass().getSimpleName();
+        int proxy = name.indexOf("$$");
+        if (proxy > 0) name = name.substring(0, proxy);
+        if (name.endsWith("EtlEngine")) name = name.substring(0, name.length() - "EtlEngine".length());
+        return name.isEmpty() ? name : Character.toLowerCase(name.charAt(0)) + name.substring(1);
     }
 
     private static double toEpochMs(ETLStatistics stats) {
-        LocalDateTime t = stats != null ? stats.getLastExecutionTime() : null;
-        if (t == null) return 0d;
-        return t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
-        }
+        return stats != null ? stats.getLastExecutionEpochMs() : 0d;
+    }
 
     private static double safeDouble(Long v) {
         return v == null ? 0d : v.doubleValue();
     }
-} 
\ No newline at end of file
+}
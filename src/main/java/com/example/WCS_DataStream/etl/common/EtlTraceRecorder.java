@@ -0,0 +1,173 @@
+package com.example.WCS_DataStream.etl.common;
+
+import com.example.WCS_DataStream.etl.engine.ETLEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 추출 페이지 기록 (운영 부하 재현용 트레이스)
+ *
+ * etl.trace.enabled=true 이면 엔진이 WCS 에서 받은 페이지(증분 조회, 배치 조회 결과, 스트리밍 청크)를
+ * 한 줄에 하나씩 {"ts", "domain", "type", "rows"} JSON 으로 etl.trace.dir/etl-trace-yyyyMMdd-HHmmss.jsonl.gz 에 추가합니다.
+ * 하네스의 TraceReplayHarness 가 같은 파일을 읽어 기록된 간격(1x, 10x) 또는 최대 속도로 엔진에 다시 넣습니다.
+ *
+ * 엔진 스레드는 페이지를 큐에 넣기만 하고 직렬화/압축/쓰기는 전용 스레드가 합니다. 큐가 차면 페이지를 버리고
+ * (dropped 로 집계) 엔진을 기다리게 하지 않으며, 압축 전 기준 maxMb 를 넘으면 기록을 멈춥니다.
+ * 페이지 리스트와 행은 추출 후 변경되지 않으므로 복사하지 않습니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class EtlTraceRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(EtlTraceRecorder.class);
+
+    public static final String FILE_PREFIX = "etl-trace-";
+    public static final String FILE_SUFFIX = ".jsonl.gz";
+
+    /**
+     * 엔진별 페이지 기록 (ETLEngine.bindTrace)
+     */
+    @FunctionalInterface
+    public interface PageTrace {
+        PageTrace NOOP = rows -> { };
+
+        void capture(List<?> rows);
+    }
+
+    /**
+     * 트레이스 한 줄: 기록 시각(epoch ms), 도메인(EtlMetricsBinder 태그), 행 클래스, 행 목록
+     */
+    public record TracePage(long ts, String domain, String type, List<?> rows) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final Path file;
+    private final long maxBytes;
+    private final int queueCapacity;
+    private final BlockingQueue<TracePage> queue;
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean stopped;
+
+    public EtlTraceRecorder(List<ETLEngine<?>> engines,
+                            @Value("${etl.trace.enabled:false}") boolean enabled,
+                            @Value("${etl.trace.dir:./etl-trace}") String dir,
+                            @Value("${etl.trace.domains:}") String domains,
+                            @Value("${etl.trace.queueCapacity:1024}") int queueCapacity,
+                            @Value("${etl.trace.maxMb:1024}") long maxMb) {
+        this.enabled = enabled;
+        this.file = Paths.get(dir, FILE_PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + FILE_SUFFIX);
+        this.maxBytes = Math.max(1L, maxMb) * 1024 * 1024;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        if (!enabled) {
+            this.writer = null;
+            return;
+        }
+        // 빈 값이면 모든 도메인 기록
+        Set<String> only = Arrays.stream(domains.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toSet());
+        for (ETLEngine<?> engine : engines) {
+            String domain = EtlMetricsBinder.domainOf(engine);
+            if (only.isEmpty() || only.contains(domain)) {
+                engine.bindTrace(rows -> capture(domain, rows));
+            }
+        }
+        this.writer = new Thread(this::writeLoop, "etl-trace-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        log.info("ETL 트레이스 기록 시작: {} (도메인 {})", file.toAbsolutePath(), only.isEmpty() ? "전체" : only);
+    }
+
+    private void capture(String domain, List<?> rows) {
+        if (stopped || rows.isEmpty()) return;
+        TracePage page = new TracePage(System.currentTimeMillis(), domain, rows.get(0).getClass().getName(), rows);
+        if (!queue.offer(page) && dropped.incrementAndGet() == 1) {
+            log.warn("ETL 트레이스 큐가 가득 차 페이지를 버립니다 (etl.trace.queueCapacity={})", queueCapacity);
+        }
+    }
+
+    private void writeLoop() {
+        long bytes = 0;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // syncFlush: 유휴 시 flush 로 비정상 종료에도 그때까지의 페이지는 읽을 수 있음
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)), 64 * 1024, true)) {
+                while (!stopped || !queue.isEmpty()) {
+                    TracePage page = queue.poll(1, TimeUnit.SECONDS);
+                    if (page == null) {
+                        out.flush();
+                        continue;
+                    }
+                    byte[] line = objectMapper.writeValueAsBytes(page);
+                    out.write(line);
+                    out.write('\n');
+                    captured.incrementAndGet();
+                    bytes += line.length + 1;
+                    if (bytes >= maxBytes) {
+                        log.warn("ETL 트레이스 크기 한도 도달 ({} bytes), 기록을 멈춥니다", bytes);
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("ETL 트레이스 기록 실패: {}", e.getMessage(), e);
+        } finally {
+            stopped = true;
+            queue.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) return;
+        stopped = true;
+        try {
+            writer.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("ETL 트레이스 기록 종료: {} (페이지 {}, 버림 {})", file.toAbsolutePath(), captured.get(), dropped.get());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getCapturedPages() {
+        return captured.get();
+    }
+
+    public long getDroppedPages() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.WCS_DataStream.etl.common;
+
+import com.example.WCS_DataStream.etl.service.EtlOffsetStore;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * (시각, UUID) 키셋 구간: 하한 (loTs, loUuid) 초과 ~ 상한 (hiTs, hiUuid) 이하
+ *
+ * split 은 [최소 시각, 고정 상한] 을 같은 시간 폭으로 나눕니다. 내부 경계는 UUID 를 "" 로 두어
+ * 상한은 "시각 < 경계", 다음 구간의 하한은 "시각 >= 경계" 가 되므로 구간끼리 겹치지도 비지도 않습니다.
+ * 마지막 구간의 상한은 백필 시작 시점에 고정한 (최대 시각, 그 시각의 최대 UUID) 이며 곧 증분 전환 오프셋입니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class KeysetRange {
+
+    private final Timestamp loTs;
+    private final String loUuid;
+    private final Timestamp hiTs;
+    private final String hiUuid;
+
+    public KeysetRange(Timestamp loTs, String loUuid, Timestamp hiTs, String hiUuid) {
+        this.loTs = loTs;
+        this.loUuid = loUuid;
+        this.hiTs = hiTs;
+        this.hiUuid = hiUuid;
+    }
+
+    /**
+     * [minTs, maxTs] 를 최대 parts 개 시간 구간으로 분할 (시각 폭이 1ms 미만이 되면 구간 수를 줄임)
+     *
+     * @param maxUuid maxTs 시각의 최대 UUID (마지막 구간의 포함 상한)
+     */
+    public static List<KeysetRange> split(Timestamp minTs, Timestamp maxTs, String maxUuid, int parts) {
+        long min = minTs.getTime();
+        long max = maxTs.getTime();
+        int n = (int) Math.max(1L, Math.min(parts, max - min));
+        List<KeysetRange> ranges = new ArrayList<>(n);
+        Timestamp lo = new Timestamp(0);
+        for (int i = 1; i < n; i++) {
+            Timestamp boundary = new Timestamp(min + (max - min) * i / n);
+            ranges.add(new KeysetRange(lo, "", boundary, ""));
+            lo = boundary;
+        }
+        ranges.add(new KeysetRange(lo, "", maxTs, maxUuid));
+        return ranges;
+    }
+
+    public Timestamp getLoTs() {
+        return loTs;
+    }
+
+    public String getLoUuid() {
+        return loUuid;
+    }
+
+    public Timestamp getHiTs() {
+        return hiTs;
+    }
+
+    public String getHiUuid() {
+        return hiUuid;
+    }
+
+    /**
+     * 이 구간 상한을 증분 오프셋으로 (마지막 구간에서 백필 완료 후 사용)
+     */
+    public EtlOffsetStore.Offset upperOffset() {
+        return new EtlOffsetStore.Offset(hiTs, hiUuid);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + loTs + ", '" + loUuid + "'] ~ (" + hiTs + ", '" + hiUuid + "']";
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.WCS_DataStream.etl.common;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+/**
+ * WCS 다중 결과 집합 배치에 들어가는 조회 한 건
+ *
+ * 단일 SELECT 문과 바인딩 값, 결과 매퍼를 담고, WcsBatchExtractor 가 배치를 실행한 뒤 결과 행을 채웁니다.
+ * 매퍼는 컬럼 순번을 캐시하므로 조회마다 새로 만들어 넘깁니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class WcsBatchQuery<T> {
+
+    private final String name;
+    private final String sql;
+    private final Object[] args;
+    private final RowMapper<T> mapper;
+    private volatile List<T> rows;
+
+    public WcsBatchQuery(String name, String sql, RowMapper<T> mapper, Object... args) {
+        this.name = name;
+        this.sql = sql;
+        this.mapper = mapper;
+        this.args = args;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public RowMapper<T> getMapper() {
+        return mapper;
+    }
+
+    /**
+     * 배치 실행 결과 (실행 전이거나 배치가 실패했으면 null)
+     */
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<T> rows) {
+        this.rows = rows;
+    }
+}
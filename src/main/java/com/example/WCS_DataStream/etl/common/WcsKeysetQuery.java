@@ -0,0 +1,82 @@
+package com.example.WCS_DataStream.etl.common;
+
+import com.example.WCS_DataStream.etl.config.ETLConfig;
+
+/**
+ * WCS 증분 키셋 조회 조건
+ *
+ * 두 방식 모두 바인딩 순서는 (lastTs, lastTs, lastUuid) 로 같습니다.
+ * CHANGE_COLUMN 은 선행 조건 CHG_TS >= ? 로 (CHG_TS, UUID) 인덱스 범위 seek 가 가능하며,
+ * TOP(n) 과 함께 읽는 양이 테이블 크기가 아닌 페이지 크기에 비례합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public final class WcsKeysetQuery {
+
+    private static final String TIMESTAMP_KEYSET = """
+            WHERE (COALESCE(UPD_DT, INS_DT) > ?)
+               OR (COALESCE(UPD_DT, INS_DT) = ? AND UUID > ?)
+            ORDER BY COALESCE(UPD_DT, INS_DT) ASC, UUID ASC
+            """;
+
+    private static final String CHANGE_COLUMN_CONDITION = """
+            WHERE CHG_TS >= ?
+              AND (CHG_TS > ? OR UUID > ?)
+            """;
+
+    private static final String CHANGE_COLUMN_KEYSET = CHANGE_COLUMN_CONDITION + """
+            ORDER BY CHG_TS ASC, UUID ASC
+            """;
+
+    private static final String TIMESTAMP_RANGE = """
+            WHERE ((COALESCE(UPD_DT, INS_DT) > ?)
+                OR (COALESCE(UPD_DT, INS_DT) = ? AND UUID > ?))
+              AND ((COALESCE(UPD_DT, INS_DT) < ?)
+                OR (COALESCE(UPD_DT, INS_DT) = ? AND UUID <= ?))
+            ORDER BY COALESCE(UPD_DT, INS_DT) ASC, UUID ASC
+            """;
+
+    private static final String CHANGE_COLUMN_RANGE = """
+            WHERE CHG_TS >= ?
+              AND (CHG_TS > ? OR UUID > ?)
+              AND CHG_TS <= ?
+              AND (CHG_TS < ? OR UUID <= ?)
+            ORDER BY CHG_TS ASC, UUID ASC
+            """;
+
+    private WcsKeysetQuery() {
+    }
+
+    /**
+     * SELECT TOP (?) ... FROM ... 뒤에 붙일 WHERE / ORDER BY 절
+     */
+    public static String predicate(ETLConfig.ExtractionMode mode) {
+        return mode == ETLConfig.ExtractionMode.CHANGE_COLUMN ? CHANGE_COLUMN_KEYSET : TIMESTAMP_KEYSET;
+    }
+
+    /**
+     * CHANGE_COLUMN 키셋의 WHERE 절만 (ORDER BY 없음, 행 수 세기용)
+     *
+     * 바인딩 순서는 predicate 와 같습니다. TIMESTAMP 방식은 COALESCE 식이라 seek 가 안 되므로 제공하지 않습니다.
+     */
+    public static String changeColumnCondition() {
+        return CHANGE_COLUMN_CONDITION;
+    }
+
+    /**
+     * 상한이 있는 키셋 구간 조회 (병렬 백필용, KeysetRange 참고)
+     *
+     * 바인딩 순서는 (lastTs, lastTs, lastUuid, hiTs, hiTs, hiUuid) 입니다.
+     */
+    public static String rangePredicate(ETLConfig.ExtractionMode mode) {
+        return mode == ETLConfig.ExtractionMode.CHANGE_COLUMN ? CHANGE_COLUMN_RANGE : TIMESTAMP_RANGE;
+    }
+
+    /**
+     * 키셋 시각 식 (CHANGE_COLUMN 이면 인덱스가 있는 계산 열)
+     */
+    public static String timestampExpression(ETLConfig.ExtractionMode mode) {
+        return mode == ETLConfig.ExtractionMode.CHANGE_COLUMN ? "CHG_TS" : "COALESCE(UPD_DT, INS_DT)";
+    }
+}
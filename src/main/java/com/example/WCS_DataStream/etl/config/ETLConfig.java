@@ -19,9 +19,70 @@ public class ETLConfig {
     private Duration executionInterval = Duration.ofSeconds(1);
     
     /**
-     * 배치 크기 (기본값: 100)
+     * 배치 크기 - 증분 추출 초기 페이지 크기 (기본값: 1000)
      */
-    private int batchSize = 100;
+    private int batchSize = 1000;
+    
+    /**
+     * 최소/최대 페이지 크기 (적응형 페이지 크기 범위)
+     */
+    private int minBatchSize = 200;
+    private int maxBatchSize = 5000;
+    
+    /**
+     * 페이지 1건(추출 + 적재) 목표 지연 (밀리초, 0 이하이면 고정 크기)
+     */
+    private long targetBatchLatencyMs = 500;
+    
+    /**
+     * 백로그 드레인 활성화 여부 (가득 찬 페이지가 오면 다음 틱을 기다리지 않고 연속 처리)
+     */
+    private boolean drainEnabled = true;
+    
+    /**
+     * 틱당 드레인 시간 예산 (밀리초)
+     */
+    private long drainBudgetMs = 5000;
+    
+    /**
+     * 스트리밍 드레인 활성화 여부 (백로그를 ResultSet 에서 청크 단위로 바로 적재, 리스트 전체 적재 없음)
+     */
+    private boolean streamingEnabled = true;
+    
+    /**
+     * 스트리밍 조회 JDBC fetch size
+     */
+    private int streamFetchSize = 500;
+    
+    /**
+     * 스트리밍 청크 크기 (변경 감지 + 적재 + 오프셋 커밋 단위)
+     */
+    private int streamChunkSize = 1000;
+    
+    /**
+     * 스트리밍 1회 최대 조회 행 수
+     */
+    private int streamMaxRows = 50000;
+    
+    /**
+     * 병렬 백필 활성화 여부 (오프셋이 없을 때 테이블을 시간 구간으로 나눠 동시 적재)
+     */
+    private boolean backfillEnabled = true;
+    
+    /**
+     * 병렬 백필 동시 구간 수
+     */
+    private int backfillParallelism = 4;
+    
+    /**
+     * 병렬 백필 작업자당 구간 수 (시간대별 데이터 편중 시 부하 분산용)
+     */
+    private int backfillRangesPerWorker = 4;
+    
+    /**
+     * 병렬 백필 구간 내 페이지 크기
+     */
+    private int backfillPageSize = 5000;
     
     /**
      * 데이터 검증 활성화 여부
@@ -84,6 +145,11 @@ public class ETLConfig {
      */
     private long cacheExpirationMs = 300000;
     
+    /**
+     * 캐시 최대 항목 수 (네임스페이스별, 초과 시 LRU 제거)
+     */
+    private int cacheMaxEntries = 10000;
+    
     /**
      * 로깅 레벨
      */
@@ -112,6 +178,31 @@ public class ETLConfig {
         HYBRID          // 하이브리드 방식
     }
     
+    /**
+     * 적재 방식 열거형 (append-only 벤더 테이블)
+     */
+    public enum LoadMode {
+        INSERT,     // 배치 INSERT (JDBC batch)
+        COPY        // COPY FROM STDIN, 실패 시 배치 INSERT로 대체
+    }
+    
+    /**
+     * 변경 감지 스냅샷 저장 방식 열거형
+     */
+    public enum SnapshotMode {
+        FULL,           // 레코드 전체 저장 (이전 값 조회 가능)
+        FINGERPRINT     // 선택 필드의 64비트 지문만 저장
+    }
+    
+    /**
+     * WCS 증분 추출 방식 열거형
+     */
+    public enum ExtractionMode {
+        TIMESTAMP,      // COALESCE(UPD_DT, INS_DT) 키셋 조회 (인덱스 미사용, 전체 스캔)
+        CHANGE_COLUMN,  // CHG_TS 계산 열 + (CHG_TS, UUID) 인덱스 seek (wcs_schema.sql 참고)
+        CHANGE_TRACKING // SQL Server Change Tracking: 동기화 버전 이후 변경된 UUID 만 조회 후 본 테이블 조인
+    }
+    
     // 생성자
     public ETLConfig() {}
     
@@ -122,6 +213,45 @@ public class ETLConfig {
     public int getBatchSize() { return batchSize; }
     public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
     
+    public int getMinBatchSize() { return minBatchSize; }
+    public void setMinBatchSize(int minBatchSize) { this.minBatchSize = minBatchSize; }
+    
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+    
+    public long getTargetBatchLatencyMs() { return targetBatchLatencyMs; }
+    public void setTargetBatchLatencyMs(long targetBatchLatencyMs) { this.targetBatchLatencyMs = targetBatchLatencyMs; }
+    
+    public boolean isDrainEnabled() { return drainEnabled; }
+    public void setDrainEnabled(boolean drainEnabled) { this.drainEnabled = drainEnabled; }
+    
+    public long getDrainBudgetMs() { return drainBudgetMs; }
+    public void setDrainBudgetMs(long drainBudgetMs) { this.drainBudgetMs = drainBudgetMs; }
+    
+    public boolean isStreamingEnabled() { return streamingEnabled; }
+    public void setStreamingEnabled(boolean streamingEnabled) { this.streamingEnabled = streamingEnabled; }
+    
+    public int getStreamFetchSize() { return streamFetchSize; }
+    public void setStreamFetchSize(int streamFetchSize) { this.streamFetchSize = streamFetchSize; }
+    
+    public int getStreamChunkSize() { return streamChunkSize; }
+    public void setStreamChunkSize(int streamChunkSize) { this.streamChunkSize = streamChunkSize; }
+    
+    public int getStreamMaxRows() { return streamMaxRows; }
+    public void setStreamMaxRows(int streamMaxRows) { this.streamMaxRows = streamMaxRows; }
+    
+    public boolean isBackfillEnabled() { return backfillEnabled; }
+    public void setBackfillEnabled(boolean backfillEnabled) { this.backfillEnabled = backfillEnabled; }
+    
+    public int getBackfillParallelism() { return backfillParallelism; }
+    public void setBackfillParallelism(int backfillParallelism) { this.backfillParallelism = backfillParallelism; }
+    
+    public int getBackfillRangesPerWorker() { return backfillRangesPerWorker; }
+    public void setBackfillRangesPerWorker(int backfillRangesPerWorker) { this.backfillRangesPerWorker = backfillRangesPerWorker; }
+    
+    public int getBackfillPageSize() { return backfillPageSize; }
+    public void setBackfillPageSize(int backfillPageSize) { this.backfillPageSize = backfillPageSize; }
+    
     public boolean isValidationEnabled() { return validationEnabled; }
     public void setValidationEnabled(boolean validationEnabled) { this.validationEnabled = validationEnabled; }
     
@@ -159,6 +289,9 @@ public class ETLConfig {
     public long getCacheExpirationMs() { return cacheExpirationMs; }
     public void setCacheExpirationMs(long cacheExpirationMs) { this.cacheExpirationMs = cacheExpirationMs; }
     
+    public int getCacheMaxEntries() { return cacheMaxEntries; }
+    public void setCacheMaxEntries(int cacheMaxEntries) { this.cacheMaxEntries = cacheMaxEntries; }
+    
     public String getLogLevel() { return logLevel; }
     public void setLogLevel(String logLevel) { this.logLevel = logLevel; }
     
@@ -175,6 +308,19 @@ public class ETLConfig {
         return "ETLConfig{" +
                 "executionInterval=" + executionInterval +
                 ", batchSize=" + batchSize +
+                ", minBatchSize=" + minBatchSize +
+                ", maxBatchSize=" + maxBatchSize +
+                ", targetBatchLatencyMs=" + targetBatchLatencyMs +
+                ", drainEnabled=" + drainEnabled +
+                ", drainBudgetMs=" + drainBudgetMs +
+                ", streamingEnabled=" + streamingEnabled +
+                ", streamFetchSize=" + streamFetchSize +
+                ", streamChunkSize=" + streamChunkSize +
+                ", streamMaxRows=" + streamMaxRows +
+                ", backfillEnabled=" + backfillEnabled +
+                ", backfillParallelism=" + backfillParallelism +
+                ", backfillRangesPerWorker=" + backfillRangesPerWorker +
+                ", backfillPageSize=" + backfillPageSize +
                 ", validationEnabled=" + validationEnabled +
                 ", transformationEnabled=" + transformationEnabled +
                 ", errorHandlingMode=" + errorHandlingMode +
@@ -187,6 +333,7 @@ public class ETLConfig {
                 ", timeoutMs=" + timeoutMs +
                 ", useCache=" + useCache +
                 ", cacheExpirationMs=" + cacheExpirationMs +
+                ", cacheMaxEntries=" + cacheMaxEntries +
                 ", logLevel='" + logLevel + '\'' +
                 ", strategy=" + strategy +
                 '}';
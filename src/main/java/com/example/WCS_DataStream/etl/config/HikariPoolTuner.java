@@ -0,0 +1,113 @@
+package com.example.WCS_DataStream.etl.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀 튜닝
+ *
+ * 데이터소스 / JdbcTemplate / 트랜잭션 매니저 빈은 공통 설정 모듈(common/config)이 만들며, 여기서는 그 HikariDataSource 에
+ * 용도별 설정만 덮어씁니다. JDBC URL 로 풀을 구분합니다.
+ * - jdbc:sqlserver  → WCS 읽기 풀 (WcsHikariCP)        : spring.datasource.wcs.pool.*
+ * - jdbc:postgresql → PostgreSQL 쓰기 풀 (PostgreSQLHikariCP) : spring.datasource.postgresql.pool.*
+ *
+ * 크기/대기 시간은 HikariConfigMXBean 항목이라 풀이 이미 시작된 뒤에도 반영되지만, 풀 이름과 드라이버 속성(준비된 문장 캐시)은
+ * 풀 시작 전에만 바꿀 수 있어 이미 시작된 풀이면 경고만 남깁니다.
+ * - mssql-jdbc : disableStatementPooling=false + statementPoolingCacheSize 로 커넥션별 문장 풀 사용
+ * - pgjdbc     : prepareThreshold 회 실행 이후 서버 측 준비 문장으로 전환, preparedStatementCacheQueries 만큼 보관
+ *
+ * 풀 지표(hikaricp_connections_*{pool=...})는 Spring Boot 가 HikariDataSource 빈마다 Micrometer 로 연결합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class HikariPoolTuner implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(HikariPoolTuner.class);
+
+    public static final String WCS_POOL = "WcsHikariCP";
+    public static final String POSTGRESQL_POOL = "PostgreSQLHikariCP";
+
+    private final int wcsMaximumPoolSize;
+    private final int wcsMinimumIdle;
+    private final long wcsConnectionTimeoutMs;
+    private final int wcsStatementPoolingCacheSize;
+    private final int postgresqlMaximumPoolSize;
+    private final int postgresqlMinimumIdle;
+    private final long postgresqlConnectionTimeoutMs;
+    private final int postgresqlPrepareThreshold;
+    private final int postgresqlPreparedStatementCacheQueries;
+
+    public HikariPoolTuner(@Value("${spring.datasource.wcs.pool.maximumPoolSize:12}") int wcsMaximumPoolSize,
+                           @Value("${spring.datasource.wcs.pool.minimumIdle:2}") int wcsMinimumIdle,
+                           @Value("${spring.datasource.wcs.pool.connectionTimeoutMs:30000}") long wcsConnectionTimeoutMs,
+                           @Value("${spring.datasource.wcs.pool.statementPoolingCacheSize:64}") int wcsStatementPoolingCacheSize,
+                           @Value("${spring.datasource.postgresql.pool.maximumPoolSize:10}") int postgresqlMaximumPoolSize,
+                           @Value("${spring.datasource.postgresql.pool.minimumIdle:2}") int postgresqlMinimumIdle,
+                           @Value("${spring.datasource.postgresql.pool.connectionTimeoutMs:30000}") long postgresqlConnectionTimeoutMs,
+                           @Value("${spring.datasource.postgresql.pool.prepareThreshold:5}") int postgresqlPrepareThreshold,
+                           @Value("${spring.datasource.postgresql.pool.preparedStatementCacheQueries:256}") int postgresqlPreparedStatementCacheQueries) {
+        this.wcsMaximumPoolSize = wcsMaximumPoolSize;
+        this.wcsMinimumIdle = wcsMinimumIdle;
+        this.wcsConnectionTimeoutMs = wcsConnectionTimeoutMs;
+        this.wcsStatementPoolingCacheSize = wcsStatementPoolingCacheSize;
+        this.postgresqlMaximumPoolSize = postgresqlMaximumPoolSize;
+        this.postgresqlMinimumIdle = postgresqlMinimumIdle;
+        this.postgresqlConnectionTimeoutMs = postgresqlConnectionTimeoutMs;
+        this.postgresqlPrepareThreshold = postgresqlPrepareThreshold;
+        this.postgresqlPreparedStatementCacheQueries = postgresqlPreparedStatementCacheQueries;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource ds) || ds.getJdbcUrl() == null) return bean;
+        String url = ds.getJdbcUrl();
+        if (url.startsWith("jdbc:sqlserver:")) {
+            tuneWcs(ds, beanName);
+        } else if (url.startsWith("jdbc:postgresql:")) {
+            tunePostgresql(ds, beanName);
+        }
+        return bean;
+    }
+
+    private void tuneWcs(HikariDataSource ds, String beanName) {
+        resize(ds, wcsMaximumPoolSize, wcsMinimumIdle, wcsConnectionTimeoutMs);
+        if (!beforeStart(ds, beanName, WCS_POOL)) return;
+        // 0 이면 드라이버 기본값(문장 풀 비활성) 유지
+        if (wcsStatementPoolingCacheSize > 0) {
+            ds.addDataSourceProperty("disableStatementPooling", "false");
+            ds.addDataSourceProperty("statementPoolingCacheSize", String.valueOf(wcsStatementPoolingCacheSize));
+        }
+    }
+
+    private void tunePostgresql(HikariDataSource ds, String beanName) {
+        resize(ds, postgresqlMaximumPoolSize, postgresqlMinimumIdle, postgresqlConnectionTimeoutMs);
+        if (!beforeStart(ds, beanName, POSTGRESQL_POOL)) return;
+        ds.addDataSourceProperty("prepareThreshold", String.valueOf(postgresqlPrepareThreshold));
+        ds.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(postgresqlPreparedStatementCacheQueries));
+    }
+
+    private static void resize(HikariDataSource ds, int maximumPoolSize, int minimumIdle, long connectionTimeoutMs) {
+        int max = Math.max(1, maximumPoolSize);
+        ds.setMaximumPoolSize(max);
+        ds.setMinimumIdle(Math.max(0, Math.min(minimumIdle, max)));
+        ds.setConnectionTimeout(connectionTimeoutMs);
+    }
+
+    /**
+     * 풀 시작 전이면 풀 이름을 정하고 true (드라이버 속성 설정 가능)
+     */
+    private static boolean beforeStart(HikariDataSource ds, String beanName, String poolName) {
+        if (ds.isRunning()) {
+            log.warn("{} 풀이 이미 시작되어 크기/대기 시간만 반영합니다 (준비된 문장 캐시 설정 제외)", beanName);
+            return false;
+        }
+        ds.setPoolName(poolName);
+        return true;
+    }
+}
@@ -1,20 +1,29 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.ChangeDetectionPlan;
+import com.example.WCS_DataStream.etl.common.ChangeTrackingCursor;
+import com.example.WCS_DataStream.etl.common.EtlPhaseMetrics;
+import com.example.WCS_DataStream.etl.common.KeysetRange;
+import com.example.WCS_DataStream.etl.common.ParallelBackfillRunner;
+import com.example.WCS_DataStream.etl.common.SnapshotChangeDetector;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
 import com.example.WCS_DataStream.etl.service.EtlOffsetStore;
+import com.example.WCS_DataStream.etl.service.WcsBackfillRepository;
+import com.example.WCS_DataStream.etl.service.WcsChangeTrackingRepository;
 import com.example.WCS_DataStream.etl.service.SystemAgvRepository;
 import com.example.WCS_DataStream.etl.service.WcsAntRobotRepository;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
 import org.springframework.stereotype.Component;
 import com.example.WCS_DataStream.etl.service.KafkaEventPublisher;
-import com.example.WCS_DataStream.etl.service.RedisCacheService;
+import com.example.WCS_DataStream.etl.service.SnapshotCacheService;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Component
 public class AntRobotEtlEngine extends ETLEngine<AntRobotInfoRecord> {
@@ -22,20 +31,25 @@ public class AntRobotEtlEngine extends ETLEngine<AntRobotInfoRecord> {
     private final WcsAntRobotRepository wcs;
     private final SystemAgvRepository systemRepo;
     private final EtlOffsetStore offsetStore;
+    private final WcsBackfillRepository backfillRepo;
     private final KafkaEventPublisher eventPublisher;
-    private final RedisCacheService redis;
-    private final String changeFields;
+    private final SnapshotChangeDetector<AntRobotInfoRecord> changeDetector;
+    private final ChangeTrackingCursor<AntRobotInfoRecord> changeCursor;
+    private final ETLConfig.LoadMode loadMode;
 
     private static final String JOB = "etl-ant-robot";
     private static final String SNAP_NS = "etlSnapshot:etl-ant-robot";
+    private static final String TABLE = "cdc_test.dbo.ANT_ROBOT_INFO";
 
-    public AntRobotEtlEngine(WcsAntRobotRepository wcs, SystemAgvRepository systemRepo, EtlOffsetStore offsetStore, KafkaEventPublisher eventPublisher, RedisCacheService redis, @Value("${etl.changeDetection.antRobot:}") String changeFields) {
+    public AntRobotEtlEngine(WcsAntRobotRepository wcs, WcsChangeTrackingRepository changeVersions, WcsBackfillRepository backfillRepo, SystemAgvRepository systemRepo, EtlOffsetStore offsetStore, KafkaEventPublisher eventPublisher, SnapshotCacheService snapshotCache, @Value("${etl.changeDetection.antRobot:}") String changeFields, @Value("${etl.loadMode.antRobot:INSERT}") ETLConfig.LoadMode loadMode, @Value("${etl.snapshotMode.antRobot:FULL}") ETLConfig.SnapshotMode snapshotMode) {
         this.wcs = wcs;
         this.systemRepo = systemRepo;
         this.offsetStore = offsetStore;
+        this.backfillRepo = backfillRepo;
         this.eventPublisher = eventPublisher;
-        this.redis = redis;
-        this.changeFields = changeFields;
+        this.changeDetector = new SnapshotChangeDetector<>(snapshotCache, SNAP_NS, ChangeDetectionPlan.compile(AntRobotInfoRecord.class, changeFields), AntRobotInfoRecord::getUuid, snapshotMode);
+        this.changeCursor = new ChangeTrackingCursor<>(JOB, TABLE, wcs.getExtractionMode(), changeVersions, wcs::fetchChanges);
+        this.loadMode = loadMode;
     }
 
     @Override
@@ -51,48 +65,162 @@ public class AntRobotEtlEngine extends ETLEngine<AntRobotInfoRecord> {
     @Override
     protected List<AntRobotInfoRecord> extractData() throws ETLEngineException {
         EtlOffsetStore.Offset off = offsetStore.get(JOB);
-        Timestamp lastTs = (off == null || off.lastTs == null) ? new Timestamp(0) : off.lastTs;
-        String lastUuid = (off == null) ? null : off.lastUuid;
-        List<AntRobotInfoRecord> rows = wcs.fetchIncremental(lastTs, lastUuid, 1000);
+        int limit = pageSizer.next();
+        // CHANGE_TRACKING: 동기화 버전 이후 변경분 (null 이면 타임스탬프 키셋 조회)
+        List<AntRobotInfoRecord> rows = changeCursor.fetch(off, limit);
+        if (rows == null) {
+            Timestamp lastTs = (off == null || off.lastTs == null) ? new Timestamp(0) : off.lastTs;
+            // 동기화 버전이 있는 오프셋의 UUID 는 버전 내 순서이므로 키셋 조건에 쓰지 않음
+            String lastUuid = (off == null || off.syncVersion != null) ? null : off.lastUuid;
+            rows = wcs.fetchIncremental(lastTs, lastUuid, limit);
+        }
         updatePullTime();
         return rows;
     }
 
+    @Override
+    public WcsBatchQuery<AntRobotInfoRecord> prepareBatchQuery() {
+        // CHANGE_TRACKING 은 버전 커서(부트스트랩/핸드오프) 때문에 배치에서 제외
+        if (changeCursor.isEnabled()) return null;
+        EtlOffsetStore.Offset off = offsetStore.get(JOB);
+        Timestamp lastTs = (off == null || off.lastTs == null) ? new Timestamp(0) : off.lastTs;
+        String lastUuid = (off == null || off.syncVersion != null) ? null : off.lastUuid;
+        updatePullTime();
+        return wcs.incrementalQuery(lastTs, lastUuid, pageSizer.next());
+    }
+
+    @Override
+    public int executeBackfill() throws ETLEngineException {
+        // 오프셋이 없을 때(최초 기동, Redis 오프셋 유실)만 수행
+        if (config == null || !config.isBackfillEnabled() || offsetStore.get(JOB) != null) return -1;
+        // 구간 조회는 (CHG_TS, UUID) 인덱스 seek 가 되는 CHANGE_COLUMN 에서만 (COALESCE 식은 구간마다 전체 스캔)
+        if (wcs.getExtractionMode() != ETLConfig.ExtractionMode.CHANGE_COLUMN) {
+            log.warn("{} 병렬 백필은 etl.extraction=CHANGE_COLUMN 에서만 수행합니다 (현재 {}), 순차 초기 적재로 진행합니다", JOB, wcs.getExtractionMode());
+            return -1;
+        }
+        long startTime = System.currentTimeMillis();
+        int parallelism = Math.max(1, config.getBackfillParallelism());
+        List<KeysetRange> ranges = backfillRepo.planRanges(TABLE, wcs.getExtractionMode(), parallelism * Math.max(1, config.getBackfillRangesPerWorker()));
+        // 빈 테이블이면 증분 처리가 처음부터 조회
+        if (ranges.isEmpty()) return 0;
+        log.info("{} 병렬 백필 시작: 구간 {}개, 동시 {}, 상한 {}", JOB, ranges.size(), parallelism, ranges.get(ranges.size() - 1));
+        ParallelBackfillRunner.Result result;
+        try {
+            result = new ParallelBackfillRunner<AntRobotInfoRecord>(JOB, parallelism, config.getBackfillPageSize(), wcs::fetchRange, this::loadBackfillPage,
+                    r -> r.getUpdDt() != null ? r.getUpdDt() : r.getInsDt(), AntRobotInfoRecord::getUuid).run(ranges);
+        } catch (RuntimeException e) {
+            throw new ETLEngineException("Error in backfill: " + e.getMessage(), e);
+        }
+        // 모든 구간 적재 후에만 고정 상한을 오프셋으로 저장 (증분 처리는 상한 다음 행부터)
+        offsetStore.set(JOB, ranges.get(ranges.size() - 1).upperOffset());
+        updateStatistics((int) result.extracted, (int) result.written, startTime);
+        return (int) result.written;
+    }
+
+    /**
+     * 백필 페이지 적재: 오프셋 없이 변경 감지 + 적재 + 스냅샷 저장 (구간끼리 UUID 가 겹치지 않아 동시 호출 가능)
+     */
+    private int loadBackfillPage(List<AntRobotInfoRecord> page) {
+        phaseMetrics.rowsFetched(page.size());
+        List<AntRobotInfoRecord> written = phaseMetrics.time(EtlPhaseMetrics.Phase.CHANGE_DETECT, () -> changeDetector.filterChanged(page));
+        phaseMetrics.rowsSkipped(page.size() - written.size());
+        if (written.isEmpty()) return 0;
+        phaseMetrics.time(EtlPhaseMetrics.Phase.LOAD, () -> load(written));
+        phaseMetrics.time(EtlPhaseMetrics.Phase.PUBLISH, () -> eventPublisher.publishAntRobotPage(written));
+        phaseMetrics.time(EtlPhaseMetrics.Phase.CHANGE_DETECT, () -> changeDetector.commit(written));
+        phaseMetrics.rowsWritten(written.size());
+        return written.size();
+    }
+
+    @Override
+    protected boolean recordsLoadPhases() {
+        return true;
+    }
+
+    @Override
+    protected Timestamp sourceTimestamp(AntRobotInfoRecord row) {
+        return row.getUpdDt() != null ? row.getUpdDt() : row.getInsDt();
+    }
+
+    @Override
+    public EtlOffsetStore.Offset getCommittedOffset() {
+        return offsetStore.get(JOB);
+    }
+
+    @Override
+    public long estimateBacklog(int cap) {
+        return backfillRepo.countAfter(TABLE, "UUID", wcs.getExtractionMode(), offsetStore.get(JOB), cap);
+    }
+
+    @Override
+    protected boolean streamData(int limit, int fetchSize, int chunkSize, Consumer<List<AntRobotInfoRecord>> chunkSink) throws ETLEngineException {
+        // CHANGE_TRACKING 은 버전 커서 단위 페이지 조회 (기본 구현: extractData 한 페이지를 청크로 분할)
+        if (changeCursor.isEnabled()) return super.streamData(limit, fetchSize, chunkSize, chunkSink);
+        EtlOffsetStore.Offset off = offsetStore.get(JOB);
+        Timestamp lastTs = (off == null || off.lastTs == null) ? new Timestamp(0) : off.lastTs;
+        String lastUuid = (off == null || off.syncVersion != null) ? null : off.lastUuid;
+        // 청크마다 transformAndLoad 에서 적재 + 오프셋 커밋 (행이 키셋 순서이므로 청크 최대값이 곧 진행 위치)
+        int[] streamed = new int[1];
+        wcs.streamIncremental(lastTs, lastUuid, limit, fetchSize, chunkSize, chunk -> {
+            streamed[0] += chunk.size();
+            chunkSink.accept(chunk);
+        });
+        updatePullTime();
+        return streamed[0] >= limit;
+    }
+
     @Override
     protected List<AntRobotInfoRecord> transformAndLoad(List<AntRobotInfoRecord> data) throws ETLEngineException {
-        if (data == null || data.isEmpty()) return List.of();
-        List<AntRobotInfoRecord> written = new ArrayList<>(data.size());
+        if (data == null || data.isEmpty()) {
+            // CHANGE_TRACKING 부트스트랩이 빈 페이지로 끝나면 동기화 버전만 저장
+            EtlOffsetStore.Offset handoff = changeCursor.next(null, 0);
+            if (handoff != null) commitOffset(offsetStore, JOB, handoff);
+            return List.of();
+        }
+        // 직전 스냅샷 대비 변경된 레코드만 적재 (L1 캐시 미스분만 Redis MGET)
+        List<AntRobotInfoRecord> written = phaseMetrics.time(EtlPhaseMetrics.Phase.CHANGE_DETECT, () -> changeDetector.filterChanged(data));
+        phaseMetrics.rowsSkipped(data.size() - written.size());
+        // 오프셋은 변경 여부와 무관하게 페이지 전체 기준으로 전진 (변경 없는 행만 있는 페이지에서 정체 방지)
         Timestamp maxTs = null; String maxUuid = null;
         for (AntRobotInfoRecord r : data) {
-            AntRobotInfoRecord prev = redis.get(SNAP_NS, r.getUuid(), AntRobotInfoRecord.class);
-            // 선택 필드 기준 변화 없으면 스킵
-            if (!hasSelectedFieldsChanged(prev, r)) {
-                continue;
-            }
-
-            systemRepo.upsertAntRobotInfo(r);
-            eventPublisher.publishAntRobot(r);
-            written.add(r);
-            // 최신 스냅샷 저장
-            redis.set(SNAP_NS, r.getUuid(), r);
-            if (r.getUpdDt() != null) {
-                if (maxTs == null || r.getUpdDt().after(maxTs) || (r.getUpdDt().equals(maxTs) && compareUuid(r.getUuid(), maxUuid) > 0)) {
-                    maxTs = r.getUpdDt();
-                    maxUuid = r.getUuid();
-                }
-            } else if (r.getInsDt() != null) {
-                if (maxTs == null || r.getInsDt().after(maxTs) || (r.getInsDt().equals(maxTs) && compareUuid(r.getUuid(), maxUuid) > 0)) {
-                    maxTs = r.getInsDt();
-                    maxUuid = r.getUuid();
+            Timestamp t = r.getUpdDt() != null ? r.getUpdDt() : r.getInsDt();
+            if (t != null) {
+                if (maxTs == null || t.after(maxTs) || (t.equals(maxTs) && compareUuid(r.getUuid(), maxUuid) > 0)) {
+                    maxTs = t; maxUuid = r.getUuid();
                 }
             }
         }
-        if (maxTs != null) {
-            offsetStore.set(JOB, new EtlOffsetStore.Offset(maxTs, maxUuid));
+        EtlOffsetStore.Offset next = changeCursor.next(maxTs != null ? new EtlOffsetStore.Offset(maxTs, maxUuid) : null, data.size());
+        if (written.isEmpty()) {
+            if (next != null) commitOffset(offsetStore, JOB, next);
+            return written;
         }
+        // 발행(ack 대기)은 트랜잭션 밖에서 먼저, 적재와 오프셋은 함께 커밋 (etl.offset.store=POSTGRES 면 단일 트랜잭션, 실패 시 모두 롤백)
+        commitPage(offsetStore, JOB, next,
+                // 페이지 단위 일괄 적재 (배치 INSERT 또는 COPY)
+                () -> load(written),
+                // 페이지 비동기 발행, 전체 ack 후에만 적재/오프셋 커밋
+                () -> eventPublisher.publishAntRobotPage(written));
+        // 최신 스냅샷 일괄 저장 (Redis MSET write-through + L1 갱신)
+        phaseMetrics.time(EtlPhaseMetrics.Phase.CHANGE_DETECT, () -> changeDetector.commit(written));
         return written;
     }
 
+    /**
+     * 페이지 적재: COPY 모드면 COPY 시도 후 실패 시 배치 INSERT로 대체
+     */
+    private void load(List<AntRobotInfoRecord> rows) {
+        if (loadMode == ETLConfig.LoadMode.COPY) {
+            try {
+                systemRepo.copyAll(rows);
+                return;
+            } catch (Exception e) {
+                log.warn("{} COPY 적재 실패, 배치 INSERT로 대체합니다: {}", JOB, e.getMessage());
+            }
+        }
+        systemRepo.upsertAll(rows);
+    }
+
     private int compareUuid(String a, String b) {
         if (a == null && b == null) return 0;
         if (a == null) return -1;
@@ -114,68 +242,6 @@ public class AntRobotEtlEngine extends ETLEngine<AntRobotInfoRecord> {
     @Override
     public void initialize(ETLConfig config, PostgreSQLDataService postgreSQLDataService) {
         super.initialize(config, postgreSQLDataService);
+        changeDetector.configure(config);
     }
-
-    private boolean hasSelectedFieldsChanged(AntRobotInfoRecord prev, AntRobotInfoRecord curr) {
-        if (curr == null) return false;
-        // prev가 없으면 신규로 간주하여 처리
-        if (prev == null) return true;
-        // 설정이 비어있으면 항상 처리(명시적으로 필드 지정 시에만 비교)
-        String cfg = changeFields == null ? "" : changeFields.trim();
-        if (cfg.isEmpty()) return true;
-        String[] fields = cfg.split(",");
-        for (String f : fields) {
-            String key = f.trim().toLowerCase();
-            if (key.isEmpty()) continue;
-            switch (key) {
-                case "posx":
-                    if (!equalsDecimal(prev.getPosX(), curr.getPosX())) return true; else break;
-                case "posy":
-                    if (!equalsDecimal(prev.getPosY(), curr.getPosY())) return true; else break;
-                case "zonecode":
-                    if (!equalsObj(prev.getZoneCode(), curr.getZoneCode())) return true; else break;
-                case "speed":
-                    if (!equalsDecimal(prev.getSpeed(), curr.getSpeed())) return true; else break;
-                case "nodeid":
-                    if (!equalsObj(prev.getNodeId(), curr.getNodeId())) return true; else break;
-                case "nexttarget":
-                    if (!equalsObj(prev.getNextTarget(), curr.getNextTarget())) return true; else break;
-                case "taskid":
-                    if (!equalsObj(prev.getTaskId(), curr.getTaskId())) return true; else break;
-                case "battery":
-                    if (!equalsDecimal(prev.getBattery(), curr.getBattery())) return true; else break;
-                case "status":
-                    if (!equalsObj(prev.getStatus(), curr.getStatus())) return true; else break;
-                case "manual":
-                    if (!equalsObj(prev.getManual(), curr.getManual())) return true; else break;
-                case "loaders":
-                    if (!equalsObj(prev.getLoaders(), curr.getLoaders())) return true; else break;
-                case "mapcode":
-                    if (!equalsObj(prev.getMapCode(), curr.getMapCode())) return true; else break;
-                case "robottype":
-                    if (!equalsObj(prev.getRobotType(), curr.getRobotType())) return true; else break;
-                case "robotno":
-                    if (!equalsObj(prev.getRobotNo(), curr.getRobotNo())) return true; else break;
-                case "podid":
-                    if (!equalsObj(prev.getPodId(), curr.getPodId())) return true; else break;
-                default:
-                    // 알 수 없는 필드명은 무시
-                    break;
-            }
-        }
-        // 모든 지정 필드가 동일하면 변화 없음 → 처리 스킵
-        return false;
-    }
-
-    private boolean equalsObj(Object a, Object b) {
-        if (a == b) return true;
-        if (a == null || b == null) return false;
-        return a.equals(b);
-    }
-
-    private boolean equalsDecimal(java.math.BigDecimal a, java.math.BigDecimal b) {
-        if (a == b) return true;
-        if (a == null || b == null) return false;
-        return a.compareTo(b) == 0;
-    }
-} 
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.BatchViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -24,6 +25,7 @@ public class BatchViewEtlEngine extends ETLEngine<BatchViewRow> {
     @Override protected boolean checkTableExists() { return systemRepo.isConnected(); }
     @Override public boolean isConnected() { return systemRepo.isConnected(); }
     @Override protected List<BatchViewRow> extractData() throws ETLEngineException { return wcs.fetchAll(); }
+    @Override public WcsBatchQuery<BatchViewRow> prepareBatchQuery() { return wcs.fetchAllQuery(); }
 
     @Override
     protected List<BatchViewRow> transformAndLoad(List<BatchViewRow> data) throws ETLEngineException {
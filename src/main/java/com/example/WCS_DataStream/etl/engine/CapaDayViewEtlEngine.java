@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.CapaDayViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -33,6 +34,11 @@ public class CapaDayViewEtlEngine extends ETLEngine<CapaDayViewRow> {
         return wcs.fetchAll();
     }
 
+    @Override
+    public WcsBatchQuery<CapaDayViewRow> prepareBatchQuery() {
+        return wcs.fetchAllQuery();
+    }
+
     @Override
     protected List<CapaDayViewRow> transformAndLoad(List<CapaDayViewRow> data) throws ETLEngineException {
         if (data == null || data.isEmpty()) return List.of();
@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.CapaHourViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -26,6 +27,7 @@ public class CapaHourViewEtlEngine extends ETLEngine<CapaHourViewRow> {
     @Override public boolean isConnected() { return systemRepo.isConnected(); }
 
     @Override protected List<CapaHourViewRow> extractData() throws ETLEngineException { return wcs.fetchAll(); }
+    @Override public WcsBatchQuery<CapaHourViewRow> prepareBatchQuery() { return wcs.fetchAllQuery(); }
 
     @Override
     protected List<CapaHourViewRow> transformAndLoad(List<CapaHourViewRow> data) throws ETLEngineException {
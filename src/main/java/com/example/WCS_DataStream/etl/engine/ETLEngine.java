@@ -2,14 +2,20 @@ package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
 import com.example.WCS_DataStream.etl.ETLStatistics;
+import com.example.WCS_DataStream.etl.common.AdaptivePageSizer;
+import com.example.WCS_DataStream.etl.common.EtlPhaseMetrics;
+import com.example.WCS_DataStream.etl.common.EtlTraceRecorder;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
+import com.example.WCS_DataStream.etl.service.EtlOffsetStore;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDateTime;
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -48,6 +54,24 @@ public abstract class ETLEngine<T> {
     // PostgreSQL 데이터 서비스 (공통)
     protected PostgreSQLDataService postgreSQLDataService;
 
+    // 증분 추출 페이지 크기 (initialize 시 ETLConfig 로 재설정)
+    protected volatile AdaptivePageSizer pageSizer = AdaptivePageSizer.fixed(1000);
+
+    // 직전 실행의 추출 건수 (적응형 폴링 간격 판단용, 실패 시 0)
+    protected volatile int lastExtractedCount = 0;
+
+    // 직전 실행 기준 추출할 데이터가 더 남아 있을 수 있는지 (페이지/스트리밍 한도 도달)
+    protected volatile boolean moreData = false;
+
+    // 단계별 지표 (EtlMetricsBinder 가 연결, 그 전에는 NOOP)
+    protected volatile EtlPhaseMetrics phaseMetrics = EtlPhaseMetrics.NOOP;
+
+    // 추출 페이지 기록 (etl.trace.enabled 일 때 EtlTraceRecorder 가 연결, 그 전에는 NOOP)
+    private volatile EtlTraceRecorder.PageTrace pageTrace = EtlTraceRecorder.PageTrace.NOOP;
+
+    // 적재한 행 중 가장 최근 원본 시각 (UPD_DT/INS_DT, epoch ms, 0 이면 없음)
+    private final AtomicLong newestWrittenSourceMs = new AtomicLong(0);
+
     /**
      * 테이블 존재 여부 확인 (공통 메서드)
      */
@@ -74,18 +98,48 @@ public abstract class ETLEngine<T> {
      * @throws ETLEngineException ETL 처리 중 오류 발생 시
      */
     public List<T> executeETL() throws ETLEngineException {
+        return runETL(null);
+    }
+    
+    /**
+     * 이미 추출된 행으로 ETL 실행 (다중 결과 집합 배치로 받은 prepareBatchQuery 결과)
+     * 
+     * 추출 단계만 건너뛰고 변환/적재, 페이지 크기 조절, 통계는 executeETL 과 같습니다.
+     */
+    public List<T> executePrefetchedETL(List<T> prefetched) throws ETLEngineException {
+        return runETL(prefetched != null ? prefetched : List.of());
+    }
+    
+    private List<T> runETL(List<T> prefetched) throws ETLEngineException {
+        int extractedCount = 0;
         try {
             
             long startTime = System.currentTimeMillis();
             status.set(EngineStatus.RUNNING);
             
-            // 데이터 추출
-            List<T> extractedData = extractData();
-            int extractedCount = extractedData.size();
+            // 데이터 추출 (배치로 미리 받은 행이 있으면 그대로 사용, 배치 조회 시간은 etl_wcs_batch_duration)
+            List<T> extractedData;
+            if (prefetched != null) {
+                extractedData = prefetched;
+            } else {
+                long extractStart = System.nanoTime();
+                extractedData = extractData();
+                phaseMetrics.record(EtlPhaseMetrics.Phase.EXTRACT, System.nanoTime() - extractStart);
+            }
+            extractedCount = extractedData.size();
+            phaseMetrics.rowsFetched(extractedCount);
+            if (extractedCount > 0) pageTrace.capture(extractedData);
             
             // 데이터 변환 및 적재
-            List<T> processedData = transformAndLoad(extractedData);
+            List<T> processedData = timedTransformAndLoad(extractedData);
             int processedCount = processedData.size();
+            phaseMetrics.rowsWritten(processedCount);
+            markWritten(processedData);
+            
+            // 페이지 크기 조절 / 드레인 여부 판단
+            pageSizer.observe(extractedCount, System.currentTimeMillis() - startTime);
+            lastExtractedCount = extractedCount;
+            moreData = pageSizer.isLastPageFull();
             
             // 통계 업데이트
             updateStatistics(extractedCount, processedCount, startTime);
@@ -102,12 +156,240 @@ public abstract class ETLEngine<T> {
             
         } catch (Exception e) {
             status.set(EngineStatus.ERROR);
+            pageSizer.abort();
+            lastExtractedCount = 0;
+            moreData = false;
+            phaseMetrics.rowsFailed(extractedCount);
+            statistics.recordFailure(extractedCount);
             throw new ETLEngineException("Error in ETL process: " + e.getMessage(), e);
         } finally {
             status.set(EngineStatus.STOPPED);
         }
     }
     
+    /**
+     * 스트리밍 ETL 실행 (백로그 드레인용)
+     * 
+     * 추출 결과를 리스트로 모으지 않고 ResultSet 에서 streamChunkSize 단위로 transformAndLoad 에 넘기므로,
+     * 백로그 크기와 무관하게 힙 사용량은 청크 + fetch size 수준으로 유지됩니다.
+     * streamData 를 구현하지 않은 엔진은 extractData 한 페이지를 청크로 나눠 같은 경로로 처리합니다.
+     * 
+     * @return 적재된 건수
+     */
+    public int executeStreamingETL() throws ETLEngineException {
+        if (config == null) {
+            return executeETL().size();
+        }
+        int limit = Math.max(1, config.getStreamMaxRows());
+        int[] counts = new int[2]; // [추출, 적재]
+        long[] sinkNanos = new long[1];
+        try {
+            long startTime = System.currentTimeMillis();
+            long streamStart = System.nanoTime();
+            status.set(EngineStatus.RUNNING);
+            
+            boolean more = streamData(limit, config.getStreamFetchSize(), Math.max(1, config.getStreamChunkSize()), chunk -> {
+                long sinkStart = System.nanoTime();
+                counts[0] += chunk.size();
+                phaseMetrics.rowsFetched(chunk.size());
+                if (!chunk.isEmpty()) pageTrace.capture(chunk);
+                try {
+                    List<T> written = timedTransformAndLoad(chunk);
+                    counts[1] += written.size();
+                    phaseMetrics.rowsWritten(written.size());
+                    markWritten(written);
+                } catch (ETLEngineException e) {
+                    phaseMetrics.rowsFailed(chunk.size());
+                    throw new ChunkFailedException(e);
+                } finally {
+                    sinkNanos[0] += System.nanoTime() - sinkStart;
+                }
+            });
+            // 추출 시간 = 스트림 전체 - 청크 적재 시간
+            phaseMetrics.record(EtlPhaseMetrics.Phase.EXTRACT, System.nanoTime() - streamStart - sinkNanos[0]);
+            
+            updateStatistics(counts[0], counts[1], startTime);
+            lastExecutionTime.set(System.currentTimeMillis());
+            lastExtractedCount = counts[0];
+            moreData = more;
+            if (counts[0] > 0) {
+                log.info("ETL streaming completed: extracted={}, processed={}", counts[0], counts[1]);
+            }
+            return counts[1];
+            
+        } catch (Exception e) {
+            status.set(EngineStatus.ERROR);
+            lastExtractedCount = counts[0];
+            moreData = false;
+            statistics.recordFailure(counts[0] - counts[1]);
+            Throwable cause = e instanceof ChunkFailedException ? e.getCause() : e;
+            throw new ETLEngineException("Error in ETL streaming: " + cause.getMessage(), cause);
+        } finally {
+            status.set(EngineStatus.STOPPED);
+        }
+    }
+    
+    /**
+     * transformAndLoad 실행 (단계를 직접 기록하지 않는 엔진은 전체를 load 단계로 기록)
+     */
+    private List<T> timedTransformAndLoad(List<T> data) throws ETLEngineException {
+        if (recordsLoadPhases()) return transformAndLoad(data);
+        long start = System.nanoTime();
+        try {
+            return transformAndLoad(data);
+        } finally {
+            phaseMetrics.record(EtlPhaseMetrics.Phase.LOAD, System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * transformAndLoad 안에서 change_detect/load/publish/offset_commit 단계를 직접 기록하는지 여부
+     */
+    protected boolean recordsLoadPhases() {
+        return false;
+    }
+    
+    /**
+     * 페이지를 발행(publish)한 뒤 적재(load)와 오프셋을 함께 커밋하면서 단계별 시간을 기록
+     * 
+     * 발행(Kafka ack 대기, 최대 ackTimeoutMs)은 트랜잭션 밖에서 먼저 끝내고, 적재 + 오프셋 UPSERT 만 트랜잭션으로 묶어
+     * ack 를 기다리는 동안 PostgreSQL 트랜잭션과 풀 커넥션을 잡고 있지 않습니다.
+     * 발행 실패 시 적재/오프셋을 건드리지 않고, 발행 후 커밋이 실패하면 오프셋이 그대로이므로 다음 틱에 같은 페이지를
+     * 다시 적재·발행합니다 (Kafka 는 중복 가능, 유실 없음: at-least-once).
+     * offset_commit 은 offsetStore.commit 전체에서 적재 시간을 뺀 값(오프셋 UPSERT + 트랜잭션 커밋)입니다.
+     * 
+     * @param publish 발행이 없는 엔진은 null
+     */
+    protected void commitPage(EtlOffsetStore offsetStore, String job, EtlOffsetStore.Offset next, Runnable load, Runnable publish) {
+        if (publish != null) phaseMetrics.time(EtlPhaseMetrics.Phase.PUBLISH, publish);
+        long start = System.nanoTime();
+        long[] loadNanos = new long[1];
+        offsetStore.commit(job, next, () -> {
+            long loadStart = System.nanoTime();
+            try {
+                phaseMetrics.time(EtlPhaseMetrics.Phase.LOAD, load);
+            } finally {
+                loadNanos[0] = System.nanoTime() - loadStart;
+            }
+        });
+        phaseMetrics.record(EtlPhaseMetrics.Phase.OFFSET_COMMIT, System.nanoTime() - start - loadNanos[0]);
+    }
+    
+    /**
+     * 적재 없이 오프셋만 저장 (offset_commit 단계로 기록)
+     */
+    protected void commitOffset(EtlOffsetStore offsetStore, String job, EtlOffsetStore.Offset next) {
+        phaseMetrics.time(EtlPhaseMetrics.Phase.OFFSET_COMMIT, () -> offsetStore.set(job, next));
+    }
+    
+    /**
+     * 적재된 행의 원본 시각 (UPD_DT, 없으면 INS_DT). null 이면 신선도 지표에서 제외 (기본값)
+     */
+    protected Timestamp sourceTimestamp(T row) {
+        return null;
+    }
+    
+    /**
+     * 적재 완료된 행의 최신 원본 시각을 기록하고, 적재 시점 기준 지연을 etl_source_to_sink_lag 에 기록
+     */
+    private void markWritten(List<T> written) {
+        long newest = 0;
+        for (T row : written) {
+            Timestamp t = sourceTimestamp(row);
+            if (t != null && t.getTime() > newest) newest = t.getTime();
+        }
+        if (newest == 0) return;
+        phaseMetrics.sourceToSinkLag(System.currentTimeMillis() - newest);
+        newestWrittenSourceMs.accumulateAndGet(newest, Math::max);
+    }
+    
+    /**
+     * 적재한 행 중 가장 최근 원본 시각 (epoch ms, 아직 없으면 0)
+     */
+    public long getNewestWrittenSourceMs() {
+        return newestWrittenSourceMs.get();
+    }
+    
+    /**
+     * 커밋된 증분 오프셋 (오프셋이 없는 전체 조회 엔진은 null)
+     */
+    public EtlOffsetStore.Offset getCommittedOffset() {
+        return null;
+    }
+    
+    /**
+     * 오프셋 이후 아직 추출하지 않은 원본 행 수 (최대 cap), 지원하지 않으면 -1
+     */
+    public long estimateBacklog(int cap) {
+        return -1;
+    }
+    
+    /**
+     * 단계별 지표 연결 (EtlMetricsBinder)
+     */
+    public void bindMetrics(EtlPhaseMetrics phaseMetrics) {
+        this.phaseMetrics = phaseMetrics != null ? phaseMetrics : EtlPhaseMetrics.NOOP;
+    }
+    
+    /**
+     * 추출 페이지 기록 연결 (EtlTraceRecorder)
+     */
+    public void bindTrace(EtlTraceRecorder.PageTrace pageTrace) {
+        this.pageTrace = pageTrace != null ? pageTrace : EtlTraceRecorder.PageTrace.NOOP;
+    }
+    
+    /**
+     * 병렬 백필 (오프셋이 없을 때 초기 적재를 구간 병렬로 수행, 지원 엔진만 구현)
+     * 
+     * @return 적재 건수, 수행하지 않았으면 -1
+     */
+    public int executeBackfill() throws ETLEngineException {
+        return -1;
+    }
+    
+    /**
+     * 다음 실행의 추출 조회를 다중 결과 집합 배치(WcsBatchExtractor)용으로 준비
+     * 
+     * 배치 실행 후 결과 행을 executePrefetchedETL 로 넘깁니다.
+     * null 이면 배치에 참여하지 않고 executeETL 로 직접 추출합니다 (기본값).
+     */
+    public WcsBatchQuery<T> prepareBatchQuery() {
+        return null;
+    }
+    
+    /**
+     * 오프셋 이후 최대 limit 행을 조회해 chunkSize 단위로 chunkSink 에 전달
+     * 
+     * 각 청크는 전달 후 재사용되지 않으며, chunkSink 안에서 청크 단위로 적재와 오프셋이 커밋됩니다.
+     * 기본 구현은 extractData 한 페이지(페이지 크기는 pageSizer)를 청크로 나눠 전달하므로 limit / fetchSize 는 쓰지 않고,
+     * 다음 페이지 여부도 executeETL 과 같이 페이지가 가득 찼는지로 판단합니다.
+     * 
+     * @return 한도까지 읽어 아직 남은 행이 있을 수 있으면 true
+     */
+    protected boolean streamData(int limit, int fetchSize, int chunkSize, Consumer<List<T>> chunkSink) throws ETLEngineException {
+        long start = System.currentTimeMillis();
+        try {
+            List<T> page = extractData();
+            for (int from = 0; from < page.size(); from += chunkSize) {
+                chunkSink.accept(page.subList(from, Math.min(page.size(), from + chunkSize)));
+            }
+            pageSizer.observe(page.size(), System.currentTimeMillis() - start);
+            return pageSizer.isLastPageFull();
+        } catch (ETLEngineException | RuntimeException e) {
+            pageSizer.abort();
+            throw e;
+        }
+    }
+    
+    /**
+     * 스트리밍 청크 처리 실패를 JDBC 콜백 밖으로 전달하기 위한 래퍼
+     */
+    private static final class ChunkFailedException extends RuntimeException {
+        ChunkFailedException(ETLEngineException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+    
     /**
      * 데이터 추출 (추상 메서드)
      */
@@ -141,6 +423,7 @@ public abstract class ETLEngine<T> {
     public void initialize(ETLConfig config, PostgreSQLDataService postgreSQLDataService) {
         this.config = config;
         this.postgreSQLDataService = postgreSQLDataService;
+        this.pageSizer = new AdaptivePageSizer(config.getBatchSize(), config.getMinBatchSize(), config.getMaxBatchSize(), config.getTargetBatchLatencyMs());
         
         try {
             // 공통: PostgreSQL 연결 상태 확인
@@ -181,6 +464,34 @@ public abstract class ETLEngine<T> {
         return lastExecutionTime.get();
     }
     
+    /**
+     * ETL 설정 조회 (initialize 전에는 null)
+     */
+    public ETLConfig getConfig() {
+        return config;
+    }
+    
+    /**
+     * 직전 실행(페이지 또는 스트리밍)이 한도까지 차서 추출할 데이터가 더 남아 있을 수 있는지 여부
+     */
+    public boolean hasMoreData() {
+        return moreData;
+    }
+    
+    /**
+     * 다음 증분 추출 페이지 크기
+     */
+    public int getPageSize() {
+        return pageSizer.current();
+    }
+    
+    /**
+     * 직전 실행에서 추출된 건수
+     */
+    public int getLastExtractedCount() {
+        return lastExtractedCount;
+    }
+    
     /**
      * 처리된 데이터 통계 조회
      */
@@ -199,19 +510,7 @@ public abstract class ETLEngine<T> {
      * 통계 업데이트
      */
     protected void updateStatistics(int extractedCount, int processedCount, long startTime) {
-        long executionTime = System.currentTimeMillis() - startTime;
-        
-        statistics.setTotalProcessedRecords(statistics.getTotalProcessedRecords() + extractedCount);
-        statistics.setSuccessfulRecords(statistics.getSuccessfulRecords() + processedCount);
-        statistics.setTotalExecutionTime(statistics.getTotalExecutionTime() + executionTime);
-        
-        if (statistics.getTotalProcessedRecords() > 0) {
-            statistics.setAverageProcessingTime(
-                (double) statistics.getTotalExecutionTime() / statistics.getTotalProcessedRecords()
-            );
-        }
-        
-        statistics.setLastExecutionTime(LocalDateTime.now());
+        statistics.recordExecution(extractedCount, processedCount, System.currentTimeMillis() - startTime);
     }
     
     /**
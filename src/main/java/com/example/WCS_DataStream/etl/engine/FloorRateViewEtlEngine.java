@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.FloorRateViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -25,6 +26,7 @@ public class FloorRateViewEtlEngine extends ETLEngine<FloorRateViewRow> {
     @Override public boolean isConnected() { return systemRepo.isConnected(); }
 
     @Override protected List<FloorRateViewRow> extractData() throws ETLEngineException { return wcs.fetchAll(); }
+    @Override public WcsBatchQuery<FloorRateViewRow> prepareBatchQuery() { return wcs.fetchAllQuery(); }
 
     @Override
     protected List<FloorRateViewRow> transformAndLoad(List<FloorRateViewRow> data) throws ETLEngineException {
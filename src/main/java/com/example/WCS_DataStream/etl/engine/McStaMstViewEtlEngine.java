@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.McStaMstViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -24,6 +25,7 @@ public class McStaMstViewEtlEngine extends ETLEngine<McStaMstViewRow> {
     @Override protected boolean checkTableExists() { return systemRepo.isConnected(); }
     @Override public boolean isConnected() { return systemRepo.isConnected(); }
     @Override protected List<McStaMstViewRow> extractData() throws ETLEngineException { return wcs.fetchAll(); }
+    @Override public WcsBatchQuery<McStaMstViewRow> prepareBatchQuery() { return wcs.fetchAllQuery(); }
 
     @Override
     protected List<McStaMstViewRow> transformAndLoad(List<McStaMstViewRow> data) throws ETLEngineException {
@@ -1,6 +1,7 @@
 package com.example.WCS_DataStream.etl.engine;
 
 import com.example.WCS_DataStream.etl.ETLEngineException;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.view.ZoneRateViewRow;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
@@ -24,6 +25,7 @@ public class ZoneRateViewEtlEngine extends ETLEngine<ZoneRateViewRow> {
     @Override protected boolean checkTableExists() { return systemRepo.isConnected(); }
     @Override public boolean isConnected() { return systemRepo.isConnected(); }
     @Override protected List<ZoneRateViewRow> extractData() throws ETLEngineException { return wcs.fetchAll(); }
+    @Override public WcsBatchQuery<ZoneRateViewRow> prepareBatchQuery() { return wcs.fetchAllQuery(); }
 
     @Override
     protected List<ZoneRateViewRow> transformAndLoad(List<ZoneRateViewRow> data) throws ETLEngineException {
@@ -0,0 +1,64 @@
+package com.example.WCS_DataStream.etl.scheduler;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Instant;
+
+/**
+ * 적응형 폴링 트리거 (PullingStrategy.HYBRID)
+ *
+ * 데이터가 없는 틱이 이어지면 폴링 간격을 두 배씩 늘려 maxIntervalMs 까지 후퇴하고,
+ * 데이터가 있는 틱이 오면 즉시 최소 간격(etl_scheduler_config.interval_ms)으로 돌아옵니다.
+ * 다음 실행 시각은 직전 틱 종료 시각 + 그 틱 결과로 갱신된 현재 간격입니다.
+ * 틱 종료 시각은 onTick 호출 시각과 스케줄러가 넘긴 완료 시각 중 늦은 쪽이라, 완료 시각이 디스패치 시각이거나
+ * (가상 스레드 실행) 틱이 onTick 전에 예외로 끝나도 실제 종료 이후로 잡힙니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+public class AdaptivePollingTrigger implements Trigger {
+
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final long initialDelayMs;
+    private volatile long currentIntervalMs;
+    private volatile Instant lastTickEnd;
+
+    public AdaptivePollingTrigger(long minIntervalMs, long maxIntervalMs, long initialDelayMs) {
+        this.minIntervalMs = Math.max(1L, minIntervalMs);
+        this.maxIntervalMs = Math.max(this.minIntervalMs, maxIntervalMs);
+        this.initialDelayMs = Math.max(0L, initialDelayMs);
+        this.currentIntervalMs = this.minIntervalMs;
+    }
+
+    @Override
+    public Instant nextExecution(TriggerContext triggerContext) {
+        Instant lastCompletion = triggerContext.lastCompletion();
+        if (lastCompletion == null) {
+            return Instant.now().plusMillis(initialDelayMs);
+        }
+        Instant tickEnd = lastTickEnd;
+        Instant base = tickEnd != null && tickEnd.isAfter(lastCompletion) ? tickEnd : lastCompletion;
+        return base.plusMillis(currentIntervalMs);
+    }
+
+    /**
+     * 틱 결과 반영
+     *
+     * @param hadData 이번 틱에서 추출된 데이터가 있었는지
+     */
+    public void onTick(boolean hadData) {
+        if (hadData) {
+            currentIntervalMs = minIntervalMs;
+        } else {
+            currentIntervalMs = Math.min(maxIntervalMs, currentIntervalMs * 2);
+        }
+        // 간격을 먼저 갱신한 뒤 종료 시각 기록 (nextExecution 이 새 간격과 함께 읽음)
+        lastTickEnd = Instant.now();
+    }
+
+    public long getCurrentIntervalMs() {
+        return currentIntervalMs;
+    }
+}
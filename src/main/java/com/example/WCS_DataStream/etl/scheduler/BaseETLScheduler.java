@@ -1,12 +1,16 @@
 package com.example.WCS_DataStream.etl.scheduler;
 
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.engine.ETLEngine;
 import com.example.WCS_DataStream.etl.service.PostgreSQLDataService;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.support.PeriodicTrigger;
 
 import java.time.LocalDateTime;
@@ -57,7 +61,40 @@ public abstract class BaseETLScheduler<T> {
      * 기본 ETL 설정 생성
      */
     protected ETLConfig createDefaultConfig() {
-        return new ETLConfig();
+        ETLConfig config = new ETLConfig();
+        // etl.<group>.* 공통값, etl.<group>.<domainKey>.* 도메인별 덮어쓰기
+        org.springframework.core.env.Environment env = SpringContext.getBean(org.springframework.core.env.Environment.class);
+        if (env != null) {
+            // 스냅샷 L1 캐시
+            config.setUseCache(property(env, "cache", "enabled", Boolean.class, config.isUseCache()));
+            config.setCacheExpirationMs(property(env, "cache", "expirationMs", Long.class, config.getCacheExpirationMs()));
+            config.setCacheMaxEntries(property(env, "cache", "maxEntries", Integer.class, config.getCacheMaxEntries()));
+            // 증분 추출 페이지 크기 / 백로그 드레인
+            config.setBatchSize(property(env, "page", "initialSize", Integer.class, config.getBatchSize()));
+            config.setMinBatchSize(property(env, "page", "minSize", Integer.class, config.getMinBatchSize()));
+            config.setMaxBatchSize(property(env, "page", "maxSize", Integer.class, config.getMaxBatchSize()));
+            config.setTargetBatchLatencyMs(property(env, "page", "targetLatencyMs", Long.class, config.getTargetBatchLatencyMs()));
+            config.setDrainEnabled(property(env, "drain", "enabled", Boolean.class, config.isDrainEnabled()));
+            config.setDrainBudgetMs(property(env, "drain", "budgetMs", Long.class, config.getDrainBudgetMs()));
+            config.setStreamingEnabled(property(env, "stream", "enabled", Boolean.class, config.isStreamingEnabled()));
+            config.setStreamFetchSize(property(env, "stream", "fetchSize", Integer.class, config.getStreamFetchSize()));
+            config.setStreamChunkSize(property(env, "stream", "chunkSize", Integer.class, config.getStreamChunkSize()));
+            config.setStreamMaxRows(property(env, "stream", "maxRows", Integer.class, config.getStreamMaxRows()));
+            // 병렬 백필 (오프셋이 없을 때 최초 1회)
+            config.setBackfillEnabled(property(env, "backfill", "enabled", Boolean.class, config.isBackfillEnabled()));
+            config.setBackfillParallelism(property(env, "backfill", "parallelism", Integer.class, config.getBackfillParallelism()));
+            config.setBackfillRangesPerWorker(property(env, "backfill", "rangesPerWorker", Integer.class, config.getBackfillRangesPerWorker()));
+            config.setBackfillPageSize(property(env, "backfill", "pageSize", Integer.class, config.getBackfillPageSize()));
+            // 폴링 전략 (HYBRID: 유휴 시 maxIntervalMs 까지 지수 후퇴)
+            config.setStrategy(property(env, "polling", "strategy", ETLConfig.PullingStrategy.class, config.getStrategy()));
+            config.setMaxPullIntervalMs(property(env, "polling", "maxIntervalMs", Long.class, config.getMaxPullIntervalMs()));
+        }
+        return config;
+    }
+
+    private <V> V property(org.springframework.core.env.Environment env, String group, String name, Class<V> type, V defaultValue) {
+        V common = env.getProperty("etl." + group + "." + name, type, defaultValue);
+        return env.getProperty("etl." + group + "." + getDomainKey() + "." + name, type, common);
     }
     
     /**
@@ -95,22 +132,14 @@ public abstract class BaseETLScheduler<T> {
     // @Scheduled(fixedRate = 100) // 0.1초마다 실행 (도메인별 주기 설정으로 이동)
     public void executeETLProcess() {
         try {
-            // DB 기반 스케줄 제어: enabled가 false면 스킵
-            try {
-                com.example.WCS_DataStream.etl.service.SystemScheduleConfigRepository repo = 
-                    com.example.WCS_DataStream.etl.scheduler.SpringContext.getBean(com.example.WCS_DataStream.etl.service.SystemScheduleConfigRepository.class);
-                if (repo != null) {
-                    com.example.WCS_DataStream.etl.config.EtlScheduleConfig cfg = repo.getByDomain(getDomainKey());
-                    if (cfg != null && !cfg.isEnabled()) {
-                        log.debug("{} disabled by DB config", getSchedulerName());
-                        return;
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("{} DB schedule config check failed: {}", getSchedulerName(), e.getMessage());
+            // DB 기반 스케줄 제어: enabled가 false면 스킵 (EtlScheduleConfigCache: LISTEN/NOTIFY 로 갱신되는 메모리 캐시)
+            if (isDisabledByDbConfig()) {
+                log.debug("{} disabled by DB config", getSchedulerName());
+                return;
             }
             if (!initialized) {
                 initializeETL();
+                runBackfill(); // 오프셋이 없으면 병렬 백필 후 증분 오프셋으로 전환
                 processInitialData(); // 초기 데이터 처리
                 log.debug("{} 초기 데이터 처리 이후 증분 처리로 이어집니다", getSchedulerName());
             }
@@ -127,23 +156,156 @@ public abstract class BaseETLScheduler<T> {
             // 증분 데이터 처리
             processIncrementalData();
             
-            // 마지막 처리 시간 업데이트
-            lastProcessedTime.set(LocalDateTime.now());
+            finishTick();
             
         } catch (Exception e) {
             log.error("{} ETL 프로세스 실행 중 오류: {}", getSchedulerName(), e.getMessage(), e);
         }
     }
 
+    /**
+     * 병렬 백필 실행 (미지원 엔진이거나 오프셋이 이미 있으면 아무것도 하지 않음)
+     * 실패하면 오프셋을 남기지 않으므로 기존 순차 초기 적재로 이어집니다.
+     */
+    private void runBackfill() {
+        try {
+            int loaded = getETLEngine().executeBackfill();
+            if (loaded >= 0) {
+                log.info("{} 병렬 백필 완료: {}건 적재, 증분 처리로 전환", getSchedulerName(), loaded);
+            }
+        } catch (Exception e) {
+            log.warn("{} 병렬 백필 실패, 순차 초기 적재로 진행합니다: {}", getSchedulerName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 증분 처리 이후 공통 마무리: 백로그 드레인, 적응형 폴링 간격 반영, 마지막 처리 시간 갱신
+     */
+    private void finishTick() {
+        // 백로그 드레인: 페이지가 가득 차서 돌아오면 다음 틱을 기다리지 않고 연속 처리
+        drainBacklog();
+        
+        // 적응형 폴링: 빈 틱이면 간격 후퇴, 데이터가 있으면 최소 간격 복귀
+        AdaptivePollingTrigger polling = pollingTrigger;
+        if (polling != null) {
+            polling.onTick(getETLEngine().getLastExtractedCount() > 0);
+        }
+        
+        // 마지막 처리 시간 업데이트
+        lastProcessedTime.set(LocalDateTime.now());
+    }
+
+    private boolean isDisabledByDbConfig() {
+        try {
+            com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache configCache = 
+                com.example.WCS_DataStream.etl.scheduler.SpringContext.getBean(com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache.class);
+            if (configCache != null) {
+                com.example.WCS_DataStream.etl.config.EtlScheduleConfig cfg = configCache.get(getDomainKey());
+                return cfg != null && !cfg.isEnabled();
+            }
+        } catch (Exception e) {
+            log.warn("{} DB schedule config check failed: {}", getSchedulerName(), e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 조율 추출 틱에서 이 도메인의 실행 시각이 되었는지 (CoordinatedExtractionScheduler 에서 호출)
+     */
+    public boolean isCoordinatedDue(long nowMs) {
+        return coordinated && nowMs >= coordinatedNextDueMs;
+    }
+
+    /**
+     * 조율 추출 틱 시작: 다중 결과 집합 배치에 넣을 이 도메인의 조회를 준비
+     *
+     * @return null 이면 이번 틱은 배치에 참여하지 않고 completeCoordinatedTick 에서 직접 실행
+     */
+    public WcsBatchQuery<?> beginCoordinatedTick() {
+        pendingBatchQuery = null;
+        // 초기 적재/강제 재처리/비활성 도메인은 기존 경로(executeETLProcess)로 처리
+        if (!initialized || forceReprocess || isDisabledByDbConfig()) return null;
+        try {
+            pendingBatchQuery = getETLEngine().prepareBatchQuery();
+        } catch (Exception e) {
+            log.warn("{} 배치 조회 준비 실패, 직접 조회로 대체합니다: {}", getSchedulerName(), e.getMessage());
+        }
+        return pendingBatchQuery;
+    }
+
+    /**
+     * 조율 추출 틱 종료: 배치 결과로 적재하고 다음 실행 시각을 정합니다.
+     * 배치에 참여하지 않았거나 배치가 실패해 결과가 없으면 executeETLProcess 로 직접 조회합니다.
+     */
+    public void completeCoordinatedTick() {
+        WcsBatchQuery<T> query = pendingBatchQuery;
+        pendingBatchQuery = null;
+        try {
+            if (query == null || query.getRows() == null) {
+                executeETLProcess();
+                return;
+            }
+            try {
+                getETLEngine().executePrefetchedETL(query.getRows());
+            } catch (Exception e) {
+                log.warn("{} 배치 결과 적재 실패: {}", getSchedulerName(), e.getMessage());
+            }
+            finishTick();
+        } catch (Exception e) {
+            log.error("{} 조율 추출 처리 중 오류: {}", getSchedulerName(), e.getMessage(), e);
+        } finally {
+            // 적응형 폴링이면 onTick 으로 갱신된 간격 기준
+            AdaptivePollingTrigger polling = pollingTrigger;
+            long intervalMs = polling != null ? polling.getCurrentIntervalMs() : scheduledIntervalMs;
+            coordinatedNextDueMs = System.currentTimeMillis() + Math.max(1L, intervalMs);
+        }
+    }
+
+    /**
+     * 가득 찬 페이지가 이어지는 동안 시간 예산(drainBudgetMs) 내에서 증분 처리를 반복
+     */
+    protected void drainBacklog() {
+        ETLEngine<T> engine = getETLEngine();
+        ETLConfig config = engine.getConfig();
+        if (config == null || !config.isDrainEnabled()) return;
+        long deadline = System.currentTimeMillis() + config.getDrainBudgetMs();
+        int pages = 0;
+        while (engine.hasMoreData() && System.currentTimeMillis() < deadline) {
+            if (config.isStreamingEnabled()) {
+                // 스트리밍 드레인: 리스트로 모으지 않고 청크 단위 적재 (미지원 엔진은 페이지 조회로 대체)
+                try {
+                    engine.executeStreamingETL();
+                } catch (Exception e) {
+                    log.warn("{} 스트리밍 드레인 실패: {}", getSchedulerName(), e.getMessage());
+                    break;
+                }
+            } else {
+                processIncrementalData();
+            }
+            pages++;
+        }
+        if (pages > 0) {
+            log.debug("{} 백로그 드레인: 추가 {} 페이지 처리 (다음 페이지 크기 {})", getSchedulerName(), pages, engine.getPageSize());
+        }
+    }
+
     private ScheduledFuture<?> scheduledTask;
+    private volatile AdaptivePollingTrigger pollingTrigger;
+    private volatile long scheduledIntervalMs = -1L;
+    private boolean pollingGaugeRegistered = false;
+
+    // 조율 추출(etl.coordinated.enabled) 참여 여부, 다음 실행 예정 시각, 배치에 넣은 조회
+    private volatile boolean coordinated = false;
+    private volatile long coordinatedNextDueMs = Long.MAX_VALUE;
+    private volatile WcsBatchQuery<T> pendingBatchQuery;
 
     /**
      * DB 설정으로 스케줄 시작 (동적 스케줄링)
      */
-    public void scheduleFromDbConfig() {
+    public synchronized void scheduleFromDbConfig() {
         try {
-            com.example.WCS_DataStream.etl.service.SystemScheduleConfigRepository repo =
-                com.example.WCS_DataStream.etl.scheduler.SpringContext.getBean(com.example.WCS_DataStream.etl.service.SystemScheduleConfigRepository.class);
+            com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache configCache =
+                com.example.WCS_DataStream.etl.scheduler.SpringContext.getBean(com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache.class);
             TaskScheduler scheduler = com.example.WCS_DataStream.etl.scheduler.SpringContext.getBean(TaskScheduler.class);
             if (scheduler == null) {
                 log.warn("{} TaskScheduler 가 존재하지 않아 스케줄 시작을 건너뜁니다.", getSchedulerName());
@@ -151,8 +313,8 @@ public abstract class BaseETLScheduler<T> {
             }
             long intervalMs = 1000L;
             long initialDelayMs = 0L;
-            if (repo != null) {
-                com.example.WCS_DataStream.etl.config.EtlScheduleConfig cfg = repo.getByDomain(getDomainKey());
+            if (configCache != null) {
+                com.example.WCS_DataStream.etl.config.EtlScheduleConfig cfg = configCache.get(getDomainKey());
                 if (cfg != null) {
                     intervalMs = Math.max(1L, cfg.getIntervalMs());
                     initialDelayMs = Math.max(0L, cfg.getInitialDelayMs());
@@ -162,14 +324,85 @@ public abstract class BaseETLScheduler<T> {
             if (scheduledTask != null) {
                 scheduledTask.cancel(false);
             }
-            PeriodicTrigger trigger = new PeriodicTrigger(intervalMs, TimeUnit.MILLISECONDS);
-            trigger.setInitialDelay(initialDelayMs);
-            scheduledTask = scheduler.schedule(this::executeETLProcess, trigger);
-            log.info("{} DB 스케줄 시작: intervalMs={}, initialDelayMs={}", getSchedulerName(), intervalMs, initialDelayMs);
+            // HYBRID: DB interval_ms 를 최소 간격으로 하는 적응형 트리거, 그 외: 고정 주기
+            ETLConfig pollingConfig = createDefaultConfig();
+            Trigger periodic;
+            if (pollingConfig.getStrategy() == ETLConfig.PullingStrategy.HYBRID) {
+                pollingTrigger = new AdaptivePollingTrigger(intervalMs, pollingConfig.getMaxPullIntervalMs(), initialDelayMs);
+                registerPollingGauge();
+                periodic = pollingTrigger;
+            } else {
+                pollingTrigger = null;
+                PeriodicTrigger fixed = new PeriodicTrigger(intervalMs, TimeUnit.MILLISECONDS);
+                fixed.setInitialDelay(initialDelayMs);
+                periodic = fixed;
+            }
+            // 조율 추출: 자체 스케줄 없이 CoordinatedExtractionScheduler 의 단일 틱에서 다른 도메인과 함께 조회
+            CoordinatedExtractionScheduler coordinator = SpringContext.getBean(CoordinatedExtractionScheduler.class);
+            if (coordinator != null && coordinator.isEnabled()) {
+                scheduledTask = null;
+                scheduledIntervalMs = intervalMs;
+                coordinatedNextDueMs = System.currentTimeMillis() + initialDelayMs;
+                coordinated = true;
+                coordinator.register(this);
+                log.info("{} 조율 추출 등록: intervalMs={}, initialDelayMs={}, polling={}", getSchedulerName(), intervalMs, initialDelayMs,
+                        pollingConfig.getStrategy());
+                return;
+            }
+            coordinated = false;
+            // 타이머(TaskScheduler)와 틱 실행(EtlTickExecutor: 공유 풀 또는 가상 스레드)을 분리
+            EtlTickExecutor tickExecutor = SpringContext.getBean(EtlTickExecutor.class);
+            if (tickExecutor != null) {
+                scheduledTask = tickExecutor.schedule(scheduler, getDomainKey(), periodic, this::executeETLProcess);
+            } else {
+                scheduledTask = scheduler.schedule(this::executeETLProcess, periodic);
+            }
+            scheduledIntervalMs = intervalMs;
+            log.info("{} DB 스케줄 시작: intervalMs={}, initialDelayMs={}, execution={}, polling={}", getSchedulerName(), intervalMs, initialDelayMs,
+                    tickExecutor != null ? tickExecutor.getMode() : "POOL", pollingConfig.getStrategy());
         } catch (Exception e) {
             log.error("{} DB 스케줄 시작 실패: {}", getSchedulerName(), e.getMessage(), e);
         }
     }
+
+    /**
+     * 캐시된 interval_ms 가 현재 스케줄과 다르면 재시작 없이 다시 스케줄 (ScheduleConfigWatcher 에서 호출)
+     *
+     * @return 재스케줄 여부
+     */
+    public synchronized boolean rescheduleIfIntervalChanged() {
+        if (scheduledTask == null && !coordinated) return false;
+        com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache configCache =
+            SpringContext.getBean(com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache.class);
+        if (configCache == null) return false;
+        com.example.WCS_DataStream.etl.config.EtlScheduleConfig cfg = configCache.get(getDomainKey());
+        long intervalMs = cfg != null ? Math.max(1L, cfg.getIntervalMs()) : 1000L;
+        if (intervalMs == scheduledIntervalMs) return false;
+        log.info("{} interval_ms 변경 {} -> {}, 재스케줄", getSchedulerName(), scheduledIntervalMs, intervalMs);
+        scheduleFromDbConfig();
+        return true;
+    }
+
+    /**
+     * 현재 폴링 간격 게이지 (재스케줄 시에도 스케줄러당 한 번만 등록)
+     */
+    private void registerPollingGauge() {
+        if (pollingGaugeRegistered) return;
+        MeterRegistry registry = SpringContext.getBean(MeterRegistry.class);
+        if (registry == null) return;
+        Gauge.builder("etl_poll_interval_ms", this, BaseETLScheduler::currentPollIntervalMs)
+                .tag("domain", getDomainKey())
+                .register(registry);
+        pollingGaugeRegistered = true;
+    }
+
+    /**
+     * 현재 폴링 간격 (적응형 트리거가 아니면 -1)
+     */
+    public long currentPollIntervalMs() {
+        AdaptivePollingTrigger polling = pollingTrigger;
+        return polling != null ? polling.getCurrentIntervalMs() : -1L;
+    }
     
     /**
      * ETL 엔진 상태 확인
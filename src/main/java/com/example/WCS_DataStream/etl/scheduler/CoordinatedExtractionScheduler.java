@@ -0,0 +1,119 @@
+package com.example.WCS_DataStream.etl.scheduler;
+
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
+import com.example.WCS_DataStream.etl.service.WcsBatchExtractor;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조율 추출 스케줄러 (etl.coordinated.enabled=true)
+ *
+ * 도메인별 스케줄 대신 tickMs 주기의 단일 틱에서 실행 시각이 된 도메인을 모아, 각 도메인의 추출 조회를
+ * WcsBatchExtractor 로 한 번에 실행(다중 결과 집합, WCS 왕복·커넥션 체크아웃 1회)한 뒤
+ * 결과 집합을 받은 뒤의 도메인별 처리(변환, 적재, Kafka 발행)는 EtlTickExecutor 로 도메인마다 따로 실행해
+ * 느린 도메인이 조율 틱이나 다른 도메인(100ms AGV 등)을 붙잡지 않게 하고, 처리 중인 도메인은 끝날 때까지 배치에서 뺍니다.
+ * 배치에 참여할 수 없는 틱(초기화 전, 강제 재처리, CHANGE_TRACKING 등)이나 배치 실패 시에는
+ * 해당 도메인만 기존 방식(executeETLProcess)으로 직접 조회합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class CoordinatedExtractionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CoordinatedExtractionScheduler.class);
+
+    public static final String DOMAIN = "coordinated";
+
+    private final WcsBatchExtractor batchExtractor;
+    private final boolean enabled;
+    private final long tickMs;
+    private final Set<BaseETLScheduler<?>> participants = new CopyOnWriteArraySet<>();
+    private ScheduledFuture<?> scheduledTask;
+
+    public CoordinatedExtractionScheduler(WcsBatchExtractor batchExtractor,
+                                          @Value("${etl.coordinated.enabled:false}") boolean enabled,
+                                          @Value("${etl.coordinated.tickMs:100}") long tickMs) {
+        this.batchExtractor = batchExtractor;
+        this.enabled = enabled;
+        this.tickMs = Math.max(10L, tickMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 도메인 스케줄러 참여 등록 (첫 등록 시 조율 틱 시작)
+     */
+    public synchronized void register(BaseETLScheduler<?> scheduler) {
+        participants.add(scheduler);
+        if (scheduledTask != null) return;
+        TaskScheduler taskScheduler = SpringContext.getBean(TaskScheduler.class);
+        if (taskScheduler == null) {
+            log.warn("TaskScheduler 가 존재하지 않아 조율 추출 틱을 시작하지 않습니다.");
+            return;
+        }
+        PeriodicTrigger periodic = new PeriodicTrigger(tickMs, TimeUnit.MILLISECONDS);
+        EtlTickExecutor tickExecutor = SpringContext.getBean(EtlTickExecutor.class);
+        if (tickExecutor != null) {
+            scheduledTask = tickExecutor.schedule(taskScheduler, DOMAIN, periodic, this::tick);
+        } else {
+            scheduledTask = taskScheduler.schedule(this::tick, periodic);
+        }
+        log.info("조율 추출 틱 시작: tickMs={}", tickMs);
+    }
+
+    /**
+     * 실행 시각이 된 도메인의 조회를 한 배치로 실행하고 결과를 각 도메인에 전달
+     */
+    void tick() {
+        long now = System.currentTimeMillis();
+        EtlTickExecutor tickExecutor = SpringContext.getBean(EtlTickExecutor.class);
+        List<BaseETLScheduler<?>> due = new ArrayList<>();
+        for (BaseETLScheduler<?> s : participants) {
+            // 이전 틱 처리가 아직 끝나지 않은 도메인은 다음 조율 틱에서
+            if (tickExecutor != null && tickExecutor.isBusy(s.getDomainKey())) continue;
+            if (s.isCoordinatedDue(now)) due.add(s);
+        }
+        if (due.isEmpty()) return;
+        List<WcsBatchQuery<?>> queries = new ArrayList<>(due.size());
+        for (BaseETLScheduler<?> s : due) {
+            WcsBatchQuery<?> q = s.beginCoordinatedTick();
+            if (q != null) queries.add(q);
+        }
+        try {
+            batchExtractor.execute(queries);
+        } catch (Exception e) {
+            // 결과가 채워지지 않은 도메인은 completeCoordinatedTick 에서 직접 조회로 대체
+            log.warn("WCS 배치 추출 실패 ({}건), 도메인별 조회로 대체합니다: {}", queries.size(), e.getMessage());
+        }
+        for (BaseETLScheduler<?> s : due) {
+            if (tickExecutor == null) {
+                s.completeCoordinatedTick();
+            } else if (!tickExecutor.execute(s.getDomainKey(), s::completeCoordinatedTick)) {
+                log.warn("{} 조율 추출 처리를 시작하지 못했습니다", s.getDomainKey());
+            }
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduledTask != null) {
+            scheduledTask.cancel(false);
+            scheduledTask = null;
+        }
+    }
+}
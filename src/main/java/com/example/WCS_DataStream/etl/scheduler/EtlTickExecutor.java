@@ -0,0 +1,317 @@
+package com.example.WCS_DataStream.etl.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ETL 틱 실행기
+ *
+ * etl.scheduler.execution=POOL    : 기존 방식, 공유 TaskScheduler 스레드에서 틱을 직접 실행
+ * etl.scheduler.execution=VIRTUAL : TaskScheduler 는 타이머 역할만 하고, 틱(블로킹 JDBC 작업)은 도메인별 가상 스레드에서 실행
+ * 조율 추출(CoordinatedExtractionScheduler)의 도메인별 처리(execute)는 모드와 무관하게 가상 스레드에서 실행
+ *
+ * 두 모드 모두 다음 실행 시각은 직전 틱이 실제로 끝난 시각 기준(fixed-delay)이고, 예정 시각 대비 실제 시작까지의
+ * 대기 시간을 etl_tick_start_delay{domain} 으로 기록합니다. 재스케줄 직후처럼 이전 스케줄의 틱이 아직 실행 중인
+ * 도메인의 틱은 건너뛰고 etl_tick_skipped_total{domain} 에 집계합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class EtlTickExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(EtlTickExecutor.class);
+
+    public enum Mode {
+        POOL,       // 공유 스케줄러 스레드에서 실행
+        VIRTUAL     // 틱마다 가상 스레드에서 실행
+    }
+
+    private final MeterRegistry registry;
+    private final Mode mode;
+    private final ExecutorService virtualExecutor;
+    private final Map<String, TickGuard> guards = new ConcurrentHashMap<>();
+
+    public EtlTickExecutor(MeterRegistry registry, @Value("${etl.scheduler.execution:POOL}") Mode mode) {
+        this.registry = registry;
+        this.mode = mode;
+        // POOL 모드에서도 조율 추출 도메인 처리(execute)에 사용
+        this.virtualExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("etl-tick-", 0).factory());
+        log.info("ETL 틱 실행 모드: {}", mode);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * 도메인 틱을 스케줄에 등록합니다.
+     *
+     * POOL 은 TaskScheduler 가 틱이 끝난 뒤 트리거로 다음 시각을 계산합니다.
+     * VIRTUAL 은 스케줄러 스레드가 가상 스레드에 넘기자마자 반환해 TaskScheduler 가 보는 완료 시각이 디스패치 시각이 되므로,
+     * 반복 스케줄 대신 단발 스케줄을 이어 붙이고 가상 스레드에서 틱이 끝난 시각을 트리거에 넘겨 다음 시각을 계산합니다.
+     * (fixed-delay 유지: 긴 틱은 건너뛰지 않고 끝난 시각부터 간격만큼 띄움)
+     *
+     * @return 취소용 핸들 (cancel 시 실행 중인 틱은 끝까지 실행)
+     */
+    public ScheduledFuture<?> schedule(TaskScheduler scheduler, String domain, Trigger trigger, Runnable tick) {
+        TimedTrigger timed = new TimedTrigger(trigger);
+        TickGuard guard = guardOf(domain);
+        if (mode == Mode.POOL) {
+            return scheduler.schedule(() -> {
+                // 디스패치 시점에 읽어야 함 (반환 직후 트리거가 다음 예정 시각으로 갱신됨)
+                Instant scheduled = timed.lastScheduled();
+                if (guard.tryEnter()) guard.run(scheduled, tick);
+            }, timed);
+        }
+        VirtualSchedule chain = new VirtualSchedule(scheduler, domain, timed, guard, tick);
+        chain.scheduleNext();
+        return chain;
+    }
+
+    /**
+     * 도메인 틱 하나를 가상 스레드에서 실행 (조율 추출: 배치 조회 후 도메인별 적재를 서로 기다리지 않도록 분리)
+     *
+     * @return 이전 틱이 아직 실행 중이거나 제출에 실패해 실행하지 않았으면 false
+     */
+    public boolean execute(String domain, Runnable tick) {
+        TickGuard guard = guardOf(domain);
+        if (!guard.tryEnter()) return false;
+        try {
+            virtualExecutor.execute(() -> guard.run(null, tick));
+            return true;
+        } catch (RuntimeException e) {
+            guard.release();
+            log.warn("{} 틱 가상 스레드 제출 실패: {}", domain, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 도메인 틱이 실행 중인지 (실행 중인 동안은 true 에서 false 로만 바뀜)
+     */
+    public boolean isBusy(String domain) {
+        TickGuard guard = guards.get(domain);
+        return guard != null && guard.running.get();
+    }
+
+    private TickGuard guardOf(String domain) {
+        // 재스케줄 후에도 이전 스케줄의 실행 중 틱과 겹치지 않도록 도메인 단위로 공유
+        return guards.computeIfAbsent(domain, d -> new TickGuard(
+                Timer.builder("etl_tick_start_delay").tag("domain", d)
+                        .publishPercentiles(0.5, 0.95, 0.99).register(registry),
+                Counter.builder("etl_tick_skipped_total").tag("domain", d).register(registry)));
+    }
+
+    /**
+     * 도메인별 중복 실행 방지와 시작 지연/건너뜀 지표
+     */
+    private static final class TickGuard {
+        private final Timer startDelay;
+        private final Counter skipped;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        TickGuard(Timer startDelay, Counter skipped) {
+            this.startDelay = startDelay;
+            this.skipped = skipped;
+        }
+
+        /**
+         * 이전 틱이 아직 실행 중이면 false (건너뜀으로 집계)
+         */
+        boolean tryEnter() {
+            if (running.compareAndSet(false, true)) return true;
+            skipped.increment();
+            return false;
+        }
+
+        void release() {
+            running.set(false);
+        }
+
+        void run(Instant scheduled, Runnable tick) {
+            if (scheduled != null) {
+                long waitedNanos = Math.max(0L, Duration.between(scheduled, Instant.now()).toNanos());
+                startDelay.record(waitedNanos, TimeUnit.NANOSECONDS);
+            }
+            try {
+                tick.run();
+            } finally {
+                release();
+            }
+        }
+    }
+
+    /**
+     * VIRTUAL 모드 스케줄: 틱이 가상 스레드에서 끝나면 그 종료 시각으로 다음 단발 스케줄을 등록
+     */
+    private final class VirtualSchedule implements ScheduledFuture<Object> {
+        private final TaskScheduler scheduler;
+        private final String domain;
+        private final TimedTrigger trigger;
+        private final TickGuard guard;
+        private final Runnable tick;
+        private ScheduledFuture<?> next;
+        private boolean cancelled;
+
+        VirtualSchedule(TaskScheduler scheduler, String domain, TimedTrigger trigger, TickGuard guard, Runnable tick) {
+            this.scheduler = scheduler;
+            this.domain = domain;
+            this.trigger = trigger;
+            this.guard = guard;
+            this.tick = tick;
+        }
+
+        synchronized void scheduleNext() {
+            if (cancelled) return;
+            Instant at = trigger.nextExecution();
+            try {
+                next = at != null ? scheduler.schedule(this::dispatch, at) : null;
+            } catch (RuntimeException e) {
+                next = null;
+                log.warn("{} 다음 틱 예약 실패, 스케줄을 중단합니다: {}", domain, e.getMessage());
+            }
+        }
+
+        /**
+         * 스케줄러 스레드: 가상 스레드에 넘기고 바로 반환
+         */
+        private void dispatch() {
+            Instant scheduled = trigger.lastScheduled();
+            Instant started = Instant.now();
+            if (!guard.tryEnter()) {
+                // 재스케줄 직전 스케줄의 틱이 아직 실행 중: 이번 회차만 건너뛰고 지금부터 간격을 다시 잼
+                complete(scheduled, started);
+                return;
+            }
+            try {
+                virtualExecutor.execute(() -> {
+                    try {
+                        guard.run(scheduled, tick);
+                    } finally {
+                        complete(scheduled, started);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 실행기 종료(애플리케이션 종료 중) 등: 스케줄 중단
+                guard.release();
+                log.warn("{} 틱 가상 스레드 제출 실패: {}", domain, e.getMessage());
+            }
+        }
+
+        private synchronized void complete(Instant scheduled, Instant started) {
+            trigger.recordCompletion(scheduled, started, Instant.now());
+            scheduleNext();
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = true;
+            if (next != null) next.cancel(mayInterruptIfRunning);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            ScheduledFuture<?> current;
+            synchronized (this) {
+                current = next;
+            }
+            return current != null ? current.get() : null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            ScheduledFuture<?> current;
+            synchronized (this) {
+                current = next;
+            }
+            return current != null ? current.get(timeout, unit) : null;
+        }
+
+        @Override
+        public synchronized long getDelay(TimeUnit unit) {
+            return next != null ? next.getDelay(unit) : 0L;
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualExecutor.shutdownNow();
+    }
+
+    /**
+     * 마지막으로 계산한 예정 실행 시각을 기억하는 트리거 래퍼
+     *
+     * VIRTUAL 모드에서는 가상 스레드에서 틱이 끝난 시각을 recordCompletion 으로 받아 자체 컨텍스트로 다음 시각을 계산합니다.
+     */
+    public static class TimedTrigger implements Trigger {
+        private final Trigger delegate;
+        private final SimpleTriggerContext completions = new SimpleTriggerContext();
+        private volatile Instant lastScheduled;
+
+        public TimedTrigger(Trigger delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Instant nextExecution(TriggerContext triggerContext) {
+            Instant next = delegate.nextExecution(triggerContext);
+            lastScheduled = next;
+            return next;
+        }
+
+        /**
+         * recordCompletion 으로 기록한 실제 틱 종료 시각 기준 다음 실행 시각 (첫 호출은 초기 지연 기준)
+         */
+        public Instant nextExecution() {
+            return nextExecution(completions);
+        }
+
+        public void recordCompletion(Instant scheduled, Instant started, Instant completed) {
+            completions.update(scheduled, started, completed);
+        }
+
+        public Instant lastScheduled() {
+            return lastScheduled;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.WCS_DataStream.etl.scheduler;
+
+import com.example.WCS_DataStream.etl.service.EtlScheduleConfigCache;
+import com.example.WCS_DataStream.etl.service.SystemScheduleConfigRepository;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * etl_scheduler_config 변경 감시
+ *
+ * 풀(PostgreSQLHikariCP)과 별개인 전용 PostgreSQL 연결(DriverManager)로 LISTEN etl_scheduler_config 를 유지하며,
+ * 트리거가 보낸 NOTIFY(payload: domain)를 받으면 EtlScheduleConfigCache 를 갱신하고 interval_ms 가 바뀐 도메인을 재스케줄합니다.
+ * 알림 유실(연결 끊김 등)에 대비해 pollIntervalMs 마다 전체 재조회를 함께 수행하며,
+ * LISTEN 연결이 끊기면 재연결 직후에도 전체 재조회로 놓친 변경을 따라잡습니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Component
+public class ScheduleConfigWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleConfigWatcher.class);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final EtlScheduleConfigCache configCache;
+    private final List<BaseETLScheduler<?>> schedulers;
+    private final boolean listenEnabled;
+    private final long pollIntervalMs;
+    private final long reconnectDelayMs;
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public ScheduleConfigWatcher(@Value("${spring.datasource.postgresql.url}") String url,
+                                 @Value("${spring.datasource.postgresql.username}") String username,
+                                 @Value("${spring.datasource.postgresql.password}") String password,
+                                 EtlScheduleConfigCache configCache,
+                                 List<BaseETLScheduler<?>> schedulers,
+                                 @Value("${etl.scheduleConfig.listen:true}") boolean listenEnabled,
+                                 @Value("${etl.scheduleConfig.pollIntervalMs:60000}") long pollIntervalMs,
+                                 @Value("${etl.scheduleConfig.reconnectDelayMs:5000}") long reconnectDelayMs) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.configCache = configCache;
+        this.schedulers = schedulers;
+        this.listenEnabled = listenEnabled;
+        this.pollIntervalMs = Math.max(1000L, pollIntervalMs);
+        this.reconnectDelayMs = Math.max(100L, reconnectDelayMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (running) return;
+        running = true;
+        worker = Thread.ofPlatform().daemon().name("etl-schedule-config-watcher").start(this::watchLoop);
+        log.info("스케줄 설정 감시 시작: listen={}, pollIntervalMs={}", listenEnabled, pollIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+    }
+
+    private void watchLoop() {
+        while (running) {
+            Connection con = null;
+            try {
+                if (listenEnabled) {
+                    // 풀 커넥션을 계속 점유하지 않도록 LISTEN 은 풀 밖의 연결로 유지
+                    con = DriverManager.getConnection(url, username, password);
+                    con.setAutoCommit(true);
+                    try (Statement st = con.createStatement()) {
+                        st.execute("LISTEN " + SystemScheduleConfigRepository.NOTIFY_CHANNEL);
+                    }
+                }
+                // (재)연결 직후 전체 재조회로 그 사이 변경분 반영
+                refreshAll();
+                long nextPoll = System.currentTimeMillis() + pollIntervalMs;
+                while (running) {
+                    long wait = Math.max(1L, nextPoll - System.currentTimeMillis());
+                    if (con != null) {
+                        PGNotification[] notifications = con.unwrap(PGConnection.class).getNotifications((int) Math.min(wait, Integer.MAX_VALUE));
+                        if (notifications != null) {
+                            for (PGNotification n : notifications) {
+                                onNotify(n.getParameter());
+                            }
+                        }
+                    } else {
+                        Thread.sleep(wait);
+                    }
+                    if (System.currentTimeMillis() >= nextPoll) {
+                        refreshAll();
+                        nextPoll = System.currentTimeMillis() + pollIntervalMs;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) return;
+                log.warn("스케줄 설정 감시 오류, {}ms 후 재연결: {}", reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                closeQuietly(con);
+            }
+        }
+    }
+
+    private void onNotify(String domain) {
+        if (domain == null || domain.isEmpty()) return;
+        configCache.refresh(domain);
+        reschedule(domain);
+    }
+
+    private void refreshAll() {
+        for (String domain : configCache.refreshAll()) {
+            reschedule(domain);
+        }
+    }
+
+    private void reschedule(String domain) {
+        for (BaseETLScheduler<?> scheduler : schedulers) {
+            if (!domain.equals(scheduler.getDomainKey())) continue;
+            try {
+                scheduler.rescheduleIfIntervalChanged();
+            } catch (Exception e) {
+                log.warn("{} 재스케줄 실패: {}", domain, e.getMessage());
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection con) {
+        if (con == null) return;
+        try {
+            con.close();
+        } catch (Exception ignore) {
+        }
+    }
+}
@@ -1,32 +1,126 @@
 package com.example.WCS_DataStream.etl.service;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * ETL 증분 오프셋 저장소
+ *
+ * etl.offset.store=REDIS    : 기존 방식, Redis 에만 저장
+ * etl.offset.store=POSTGRES : public.etl_offset 에 저장하고 페이지 적재와 같은 트랜잭션으로 커밋 (commit 참고).
+ *                             Redis 는 etl.offset.redisCache=true 일 때 읽기 캐시로만 사용합니다.
+ */
 @Service
 public class EtlOffsetStore {
 
     private final RedisCacheService redis;
+    private final SystemEtlOffsetRepository offsetRepo;
+    private final TransactionTemplate txTemplate;
+    private final Backend backend;
+    private final boolean redisCache;
+    /** 이 JVM 에서 PostgreSQL 원본으로 한 번 이상 확인한 잡 (이후 Redis 캐시 신뢰) */
+    private final Set<String> verified = ConcurrentHashMap.newKeySet();
 
-    public EtlOffsetStore(RedisCacheService redis) {
+    public EtlOffsetStore(RedisCacheService redis,
+                          SystemEtlOffsetRepository offsetRepo,
+                          @Qualifier("postgresqlTransactionManager") PlatformTransactionManager postgresqlTransactionManager,
+                          @Value("${etl.offset.store:REDIS}") Backend backend,
+                          @Value("${etl.offset.redisCache:true}") boolean redisCache) {
         this.redis = redis;
+        this.offsetRepo = offsetRepo;
+        this.txTemplate = new TransactionTemplate(postgresqlTransactionManager);
+        this.backend = backend;
+        this.redisCache = redisCache;
     }
 
     public static final String NS = "etlOffset";
 
+    public enum Backend {
+        REDIS,      // Redis 단독
+        POSTGRES    // PostgreSQL 원본 + Redis 읽기 캐시
+    }
+
     public static class Offset {
         public Timestamp lastTs;
         public String lastUuid;
+        /** CHANGE_TRACKING 동기화 버전 (null 이면 타임스탬프 키셋), 값이 있으면 lastUuid 는 같은 버전 내 마지막 기본 키 (ANT_FLYPICK_INFO 는 ROBOT_NO) */
+        public Long syncVersion;
         public Offset() {}
         public Offset(Timestamp lastTs, String lastUuid) { this.lastTs = lastTs; this.lastUuid = lastUuid; }
+        public Offset(Timestamp lastTs, String lastUuid, Long syncVersion) { this(lastTs, lastUuid); this.syncVersion = syncVersion; }
     }
 
     public Offset get(String jobName) {
-        return redis.get(NS, jobName, Offset.class);
+        if (backend == Backend.REDIS) {
+            return redis.get(NS, jobName, Offset.class);
+        }
+        if (redisCache && verified.contains(jobName)) {
+            Offset cached = cacheGet(jobName);
+            if (cached != null) return cached;
+        }
+        Offset off = offsetRepo.find(jobName);
+        if (off == null) {
+            // 최초 전환 시 기존 Redis 오프셋을 이어받아 전체 재조회를 피함
+            off = cacheGet(jobName);
+            if (off != null) offsetRepo.upsert(jobName, off);
+        } else if (redisCache) {
+            cachePut(jobName, off);
+        }
+        verified.add(jobName);
+        return off;
     }
 
     public void set(String jobName, Offset offset) {
+        if (backend == Backend.POSTGRES) {
+            offsetRepo.upsert(jobName, offset);
+            if (redisCache) cachePut(jobName, offset);
+            return;
+        }
         redis.set(NS, jobName, offset);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 페이지 적재(work)와 오프셋 갱신을 함께 커밋합니다.
+     *
+     * POSTGRES 모드에서는 work 와 오프셋 UPSERT 가 postgresqlTransactionManager 트랜잭션 하나로 묶이며,
+     * work 가 예외를 던지면 적재 행과 오프셋이 모두 롤백됩니다. REDIS 모드에서는 work 실행 후 오프셋을 저장합니다.
+     *
+     * @param offset 새 오프셋 (null 이면 work 만 실행)
+     */
+    public void commit(String jobName, Offset offset, Runnable work) {
+        if (backend == Backend.REDIS) {
+            work.run();
+            if (offset != null) redis.set(NS, jobName, offset);
+            return;
+        }
+        txTemplate.executeWithoutResult(status -> {
+            work.run();
+            if (offset != null) offsetRepo.upsert(jobName, offset);
+        });
+        // 커밋 이후에만 캐시 갱신 (롤백된 오프셋이 캐시에 남지 않도록)
+        if (offset != null && redisCache) cachePut(jobName, offset);
+    }
+
+    // POSTGRES 모드의 Redis 는 선택적 캐시이므로 장애가 적재 흐름을 막지 않도록 함
+    private Offset cacheGet(String jobName) {
+        try {
+            return redis.get(NS, jobName, Offset.class);
+        } catch (Exception ignore) {
+            return null;
+        }
+    }
+
+    private void cachePut(String jobName, Offset offset) {
+        try {
+            redis.set(NS, jobName, offset);
+        } catch (Exception ignore) {
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.example.WCS_DataStream.etl.config.EtlScheduleConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * etl_scheduler_config 인메모리 캐시
+ *
+ * 틱마다 PostgreSQL 을 조회하지 않도록 도메인별 설정을 메모리에 보관합니다.
+ * 갱신은 ScheduleConfigWatcher 가 LISTEN/NOTIFY 알림 또는 주기 폴링으로 refresh / refreshAll 을 호출해 수행합니다.
+ * 행이 없는 도메인도 빈 값으로 캐시해 반복 조회를 막습니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Service
+public class EtlScheduleConfigCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EtlScheduleConfigCache.class);
+
+    private final SystemScheduleConfigRepository repo;
+    private final Map<String, Optional<EtlScheduleConfig>> configs = new ConcurrentHashMap<>();
+
+    public EtlScheduleConfigCache(SystemScheduleConfigRepository repo) {
+        this.repo = repo;
+    }
+
+    /**
+     * 도메인 설정 조회 (캐시 미스 시에만 DB 조회)
+     *
+     * @return 설정 행, 없으면 null
+     */
+    public EtlScheduleConfig get(String domain) {
+        return configs.computeIfAbsent(domain, d -> Optional.ofNullable(repo.getByDomain(d))).orElse(null);
+    }
+
+    /**
+     * 단일 도메인 재조회
+     *
+     * @return 이전 캐시 값 (없었으면 null)
+     */
+    public EtlScheduleConfig refresh(String domain) {
+        Optional<EtlScheduleConfig> previous = configs.put(domain, Optional.ofNullable(repo.getByDomain(domain)));
+        return previous == null ? null : previous.orElse(null);
+    }
+
+    /**
+     * 전체 재조회 (폴링 폴백 / LISTEN 재연결 직후)
+     *
+     * @return 값이 바뀐 도메인 목록
+     */
+    public List<String> refreshAll() {
+        Map<String, EtlScheduleConfig> latest = new HashMap<>();
+        for (EtlScheduleConfig c : repo.findAll()) {
+            latest.put(c.getDomain(), c);
+        }
+        List<String> changed = new ArrayList<>();
+        // 캐시에 있던 도메인 중 삭제된 행도 반영
+        for (String domain : new ArrayList<>(configs.keySet())) {
+            if (!latest.containsKey(domain)) {
+                Optional<EtlScheduleConfig> previous = configs.put(domain, Optional.empty());
+                if (previous != null && previous.isPresent()) changed.add(domain);
+            }
+        }
+        for (Map.Entry<String, EtlScheduleConfig> e : latest.entrySet()) {
+            Optional<EtlScheduleConfig> previous = configs.put(e.getKey(), Optional.of(e.getValue()));
+            if (previous == null || !sameSettings(previous.orElse(null), e.getValue())) changed.add(e.getKey());
+        }
+        if (!changed.isEmpty()) {
+            log.debug("스케줄 설정 변경 감지: {}", changed);
+        }
+        return changed;
+    }
+
+    public void invalidate(String domain) {
+        configs.remove(domain);
+    }
+
+    private static boolean sameSettings(EtlScheduleConfig a, EtlScheduleConfig b) {
+        if (a == null || b == null) return a == b;
+        return a.isEnabled() == b.isEnabled()
+                && a.getIntervalMs() == b.getIntervalMs()
+                && a.getInitialDelayMs() == b.getInitialDelayMs();
+    }
+}
@@ -4,14 +4,41 @@ import com.example.WCS_DataStream.etl.model.vendor.ant.AntPodInfoRecord;
 import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
 import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
 import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyPodInfoRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 벤더 레코드 Kafka 이벤트 발행
+ *
+ * 페이지 단위 발행(publish*Page)은 레코드를 비동기로 전송하되 미확인(in-flight) 레코드 수를 세마포어로 제한하고,
+ * 페이지의 모든 레코드가 브로커 ack 를 받을 때까지 대기합니다. 하나라도 실패하거나 시간 초과되면 예외를 던지므로
+ * 호출 측(엔진)은 오프셋을 전진시키지 않고 다음 틱에 같은 페이지를 다시 처리합니다(at-least-once).
+ */
 @Service
 public class KafkaEventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry registry;
+    private final Semaphore inFlight;
+    private final long ackTimeoutMs;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
 
     @Value("${kafka.topic.antRobotInfo:ant_robot_info_events}")
     private String antRobotTopic;
@@ -25,8 +52,94 @@ public class KafkaEventPublisher {
     @Value("${kafka.topic.mushinyPod:mushiny_pod_events}")
     private String mushinyPodTopic;
 
-    public KafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+    public KafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                               MeterRegistry registry,
+                               @Value("${kafka.publish.maxInFlight:1000}") int maxInFlight,
+                               @Value("${kafka.publish.ackTimeoutMs:30000}") long ackTimeoutMs) {
         this.kafkaTemplate = kafkaTemplate;
+        this.registry = registry;
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.ackTimeoutMs = Math.max(1L, ackTimeoutMs);
+        int permits = Math.max(1, maxInFlight);
+        Gauge.builder("etl_kafka_in_flight_records", inFlight, s -> permits - s.availablePermits()).register(registry);
+    }
+
+    public void publishAntRobotPage(List<AntRobotInfoRecord> records) {
+        publishPage(antRobotTopic, records, AntRobotInfoRecord::getUuid);
+    }
+
+    public void publishAntPodPage(List<AntPodInfoRecord> records) {
+        publishPage(antPodTopic, records, AntPodInfoRecord::getUuid);
+    }
+
+    public void publishMushinyAgvPage(List<MushinyAgvInfoRecord> records) {
+        publishPage(mushinyAgvTopic, records, MushinyAgvInfoRecord::getUuid);
+    }
+
+    public void publishMushinyPodPage(List<MushinyPodInfoRecord> records) {
+        publishPage(mushinyPodTopic, records, MushinyPodInfoRecord::getUuid);
+    }
+
+    /**
+     * 페이지 비동기 발행 후 전체 ack 대기
+     *
+     * @throws KafkaPublishException 전송 실패, ack 시간 초과 또는 in-flight 대기 시간 초과
+     */
+    public <T> void publishPage(String topic, List<T> records, Function<T, String> keyOf) {
+        if (records == null || records.isEmpty()) return;
+        Timer latency = latencyTimers.computeIfAbsent(topic, t -> Timer.builder("etl_kafka_send_latency")
+                .tag("topic", t).publishPercentiles(0.5, 0.95, 0.99).register(registry));
+        Counter failures = failureCounters.computeIfAbsent(topic, t -> Counter.builder("etl_kafka_send_failures_total")
+                .tag("topic", t).register(registry));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeoutMs);
+        List<CompletableFuture<?>> futures = new ArrayList<>(records.size());
+        try {
+            for (T record : records) {
+                if (record == null) continue;
+                // in-flight 상한: 앞선 전송의 ack 가 돌아와야 다음 레코드를 보냄
+                if (!inFlight.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                    failures.increment();
+                    throw new KafkaPublishException(topic + " in-flight 대기 시간 초과 (" + ackTimeoutMs + "ms)", null);
+                }
+                long start = System.nanoTime();
+                CompletableFuture<?> f;
+                try {
+                    f = kafkaTemplate.send(topic, keyOf.apply(record), record);
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    failures.increment();
+                    throw new KafkaPublishException(topic + " 전송 실패: " + e.getMessage(), e);
+                }
+                futures.add(f.whenComplete((r, ex) -> {
+                    inFlight.release();
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (ex != null) failures.increment();
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaPublishException(topic + " 발행 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new KafkaPublishException(topic + " ack 대기 시간 초과 (" + ackTimeoutMs + "ms)", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new KafkaPublishException(topic + " 전송 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+
+    /**
+     * 페이지 발행 실패 (오프셋 전진 금지 신호)
+     */
+    public static class KafkaPublishException extends RuntimeException {
+        public KafkaPublishException(String message, Throwable cause) {
+            super(message, cause);
+        }
     }
 
     public void publishAntRobot(AntRobotInfoRecord record) {
@@ -0,0 +1,134 @@
+package com.example.WCS_DataStream.etl.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * PostgreSQL COPY 기반 벌크 로더
+ *
+ * append-only 이력 테이블에 한 페이지를 COPY FROM STDIN (CSV) 으로 스트리밍합니다.
+ * 행 단위로 CSV 를 인코딩해 바로 전송하므로 페이지 전체를 문자열로 만들지 않습니다.
+ * COPY 는 문장 단위로 원자적이므로 실패 시 아무 행도 남지 않으며, 호출 측에서 배치 INSERT로 재시도할 수 있습니다.
+ * 진행 중인 트랜잭션에 참여한 경우 세이브포인트로 감싸 COPY 실패가 바깥 트랜잭션을 중단(abort)시키지 않도록 합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Service
+public class PostgresCopyLoader {
+
+    private final JdbcTemplate postgresqlJdbcTemplate;
+
+    public PostgresCopyLoader(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate) {
+        this.postgresqlJdbcTemplate = postgresqlJdbcTemplate;
+    }
+
+    /**
+     * rows 를 table(columns) 로 COPY 합니다.
+     *
+     * @param table 대상 테이블 (예: public.ant_robot_info)
+     * @param columns 컬럼 목록 (toArgs 반환 순서와 동일)
+     * @param rows 적재할 레코드
+     * @param toArgs 레코드 → 컬럼 값 배열 변환 함수
+     * @return COPY 된 행 수
+     */
+    public <T> long copyIn(String table, String columns, List<T> rows, Function<T, Object[]> toArgs) throws SQLException {
+        if (rows == null || rows.isEmpty()) return 0L;
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        DataSource ds = postgresqlJdbcTemplate.getDataSource();
+        Connection con = DataSourceUtils.getConnection(ds);
+        CopyIn copyIn = null;
+        Savepoint savepoint = null;
+        try {
+            if (DataSourceUtils.isConnectionTransactional(con, ds)) {
+                savepoint = con.setSavepoint();
+            }
+            CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+            copyIn = copyManager.copyIn(sql);
+            StringBuilder line = new StringBuilder(256);
+            for (T row : rows) {
+                line.setLength(0);
+                appendCsvLine(line, toArgs.apply(row));
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            long copied = copyIn.endCopy();
+            if (savepoint != null) con.releaseSavepoint(savepoint);
+            return copied;
+        } catch (SQLException e) {
+            cancelQuietly(copyIn);
+            rollbackQuietly(con, savepoint);
+            throw e;
+        } catch (RuntimeException e) {
+            cancelQuietly(copyIn);
+            rollbackQuietly(con, savepoint);
+            throw new SQLException("COPY into " + table + " failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(con, ds);
+        }
+    }
+
+    private static void cancelQuietly(CopyIn copyIn) {
+        if (copyIn == null) return;
+        try {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        } catch (SQLException ignore) {
+        }
+    }
+
+    private static void rollbackQuietly(Connection con, Savepoint savepoint) {
+        if (savepoint == null) return;
+        try {
+            con.rollback(savepoint);
+        } catch (SQLException ignore) {
+        }
+    }
+
+    /**
+     * CSV 한 줄 인코딩: NULL 은 빈 필드, 문자열은 항상 인용(빈 문자열과 NULL 구분)
+     */
+    static void appendCsvLine(StringBuilder sb, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) sb.append(',');
+            Object v = values[i];
+            if (v == null) continue;
+            if (v instanceof Timestamp ts) {
+                // 오프셋을 포함해 timestamp / timestamptz 컬럼 모두 JDBC setTimestamp 와 동일하게 해석되도록 함
+                sb.append(ts.toInstant().atZone(ZoneId.systemDefault()).toOffsetDateTime());
+            } else if (v instanceof BigDecimal d) {
+                sb.append(d.toPlainString());
+            } else if (v instanceof Number || v instanceof Boolean) {
+                sb.append(v);
+            } else {
+                appendQuoted(sb, v.toString());
+            }
+        }
+        sb.append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
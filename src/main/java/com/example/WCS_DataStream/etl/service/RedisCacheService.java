@@ -3,6 +3,12 @@ package com.example.WCS_DataStream.etl.service;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -20,16 +26,39 @@ public class RedisCacheService {
     }
 
     public <T> T get(String namespace, String key, Class<T> clazz) {
-        Object v = redisTemplate.opsForValue().get(namespacedKey(namespace, key));
+        return convert(redisTemplate.opsForValue().get(namespacedKey(namespace, key)), clazz);
+    }
+
+    /**
+     * 여러 키를 MGET 한 번으로 조회합니다. 값이 없는 키는 결과 Map 에 포함되지 않습니다.
+     */
+    public <T> Map<String, T> getAll(String namespace, Collection<String> keys, Class<T> clazz) {
+        if (keys == null || keys.isEmpty()) return new HashMap<>();
+        List<String> keyList = new ArrayList<>(keys.size());
+        List<String> redisKeys = new ArrayList<>(keys.size());
+        for (String k : keys) {
+            keyList.add(k);
+            redisKeys.add(namespacedKey(namespace, k));
+        }
+        List<Object> values = redisTemplate.opsForValue().multiGet(redisKeys);
+        Map<String, T> result = new HashMap<>(keyList.size() * 2);
+        if (values == null) return result;
+        for (int i = 0; i < keyList.size() && i < values.size(); i++) {
+            T v = convert(values.get(i), clazz);
+            if (v != null) result.put(keyList.get(i), v);
+        }
+        return result;
+    }
+
+    <T> T convert(Object v, Class<T> clazz) {
         if (v == null) return null;
         if (clazz.isInstance(v)) return clazz.cast(v);
         try {
-            if (v instanceof java.util.Map) {
-                return objectMapper.convertValue(v, clazz);
-            }
             if (v instanceof String s) {
                 return objectMapper.readValue(s, clazz);
             }
+            // Map(JSON 객체), 직렬화 방식에 따라 Integer 로 돌아온 Long 등
+            return objectMapper.convertValue(v, clazz);
         } catch (Exception ignore) {
         }
         return null;
@@ -39,6 +68,18 @@ public class RedisCacheService {
         redisTemplate.opsForValue().set(namespacedKey(namespace, key), value);
     }
 
+    /**
+     * 여러 키를 MSET 한 번으로 저장합니다.
+     */
+    public void setAll(String namespace, Map<String, ?> values) {
+        if (values == null || values.isEmpty()) return;
+        Map<String, Object> namespaced = new LinkedHashMap<>(values.size() * 2);
+        for (Map.Entry<String, ?> e : values.entrySet()) {
+            namespaced.put(namespacedKey(namespace, e.getKey()), e.getValue());
+        }
+        redisTemplate.opsForValue().multiSet(namespaced);
+    }
+
     public void delete(String namespace, String key) {
         redisTemplate.delete(namespacedKey(namespace, key));
     }
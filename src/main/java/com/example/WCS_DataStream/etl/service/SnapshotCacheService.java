@@ -0,0 +1,176 @@
+package com.example.WCS_DataStream.etl.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변경 감지용 스냅샷 L1 캐시
+ *
+ * 스냅샷 네임스페이스(etlSnapshot:*)별로 크기 제한 LRU 캐시를 JVM 힙에 두고 Redis 앞단에서 조회합니다.
+ * 쓰기는 Redis 에 먼저 반영(write-through)한 뒤 로컬에 저장하므로 Redis 는 재시작/복구용 원본으로 유지됩니다.
+ * 한 도메인은 하나의 JVM 이 담당한다는 전제에서만 로컬 값이 Redis 와 일치합니다.
+ *
+ * @author AGV Monitoring System
+ * @version 2.0
+ */
+@Service
+public class SnapshotCacheService {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private final RedisCacheService redis;
+    private final MeterRegistry registry;
+    private final Map<String, NamespaceCache> caches = new ConcurrentHashMap<>();
+
+    public SnapshotCacheService(RedisCacheService redis, MeterRegistry registry) {
+        this.redis = redis;
+        this.registry = registry;
+    }
+
+    /**
+     * 네임스페이스 캐시 설정 (ETLConfig.useCache / cacheExpirationMs / cacheMaxEntries)
+     * 설정이 바뀌면 기존 로컬 항목은 비웁니다.
+     */
+    public void configure(String namespace, boolean enabled, long expirationMs, int maxEntries) {
+        cache(namespace).configure(enabled, expirationMs, maxEntries);
+    }
+
+    /**
+     * 로컬 캐시 우선 조회, 미스 키만 Redis MGET 으로 적재합니다. 값이 없는 키는 결과에 포함되지 않습니다.
+     */
+    public <T> Map<String, T> getAll(String namespace, Collection<String> keys, Class<T> clazz) {
+        NamespaceCache c = cache(namespace);
+        if (!c.enabled) return redis.getAll(namespace, keys, clazz);
+        Map<String, T> result = new HashMap<>(keys.size() * 2);
+        List<String> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (c) {
+            for (String k : keys) {
+                Object v = c.getIfFresh(k, now);
+                if (clazz.isInstance(v)) {
+                    result.put(k, clazz.cast(v));
+                } else {
+                    misses.add(k);
+                }
+            }
+        }
+        c.hits.increment(result.size());
+        if (misses.isEmpty()) return result;
+        c.misses.increment(misses.size());
+        Map<String, T> loaded = redis.getAll(namespace, misses, clazz);
+        synchronized (c) {
+            for (Map.Entry<String, T> e : loaded.entrySet()) {
+                c.put(e.getKey(), e.getValue(), now);
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * Redis 에 먼저 저장(write-through)한 뒤 로컬 캐시를 갱신합니다.
+     */
+    public void putAll(String namespace, Map<String, ?> values) {
+        if (values == null || values.isEmpty()) return;
+        redis.setAll(namespace, values);
+        NamespaceCache c = cache(namespace);
+        if (!c.enabled) return;
+        long now = System.currentTimeMillis();
+        synchronized (c) {
+            for (Map.Entry<String, ?> e : values.entrySet()) {
+                c.put(e.getKey(), e.getValue(), now);
+            }
+        }
+    }
+
+    /**
+     * 로컬 캐시만 비웁니다 (Redis 스냅샷은 유지)
+     */
+    public void invalidate(String namespace) {
+        NamespaceCache c = caches.get(namespace);
+        if (c == null) return;
+        synchronized (c) {
+            c.map.clear();
+        }
+    }
+
+    private NamespaceCache cache(String namespace) {
+        return caches.computeIfAbsent(namespace, ns -> new NamespaceCache(ns, registry));
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long storedAtMs;
+
+        Entry(Object value, long storedAtMs) {
+            this.value = value;
+            this.storedAtMs = storedAtMs;
+        }
+    }
+
+    /**
+     * 접근 순서 LinkedHashMap 기반 LRU (외부에서 this 로 동기화)
+     */
+    private static final class NamespaceCache {
+        volatile boolean enabled = true;
+        volatile long expirationMs = 0L;
+        volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+
+        final Counter hits;
+        final Counter misses;
+        final Counter evictions;
+        final LinkedHashMap<String, Entry> map = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        NamespaceCache(String namespace, MeterRegistry registry) {
+            this.hits = Counter.builder("etl_snapshot_cache_requests_total").tag("namespace", namespace).tag("result", "hit").register(registry);
+            this.misses = Counter.builder("etl_snapshot_cache_requests_total").tag("namespace", namespace).tag("result", "miss").register(registry);
+            this.evictions = Counter.builder("etl_snapshot_cache_evictions_total").tag("namespace", namespace).register(registry);
+            Gauge.builder("etl_snapshot_cache_size", this, c -> c.size()).tag("namespace", namespace).register(registry);
+        }
+
+        synchronized void configure(boolean enabled, long expirationMs, int maxEntries) {
+            this.enabled = enabled;
+            this.expirationMs = Math.max(0L, expirationMs);
+            this.maxEntries = maxEntries > 0 ? maxEntries : DEFAULT_MAX_ENTRIES;
+            map.clear();
+        }
+
+        Object getIfFresh(String key, long now) {
+            Entry e = map.get(key);
+            if (e == null) return null;
+            // 만료 시간이 0 이하이면 만료 없음
+            if (expirationMs > 0 && now - e.storedAtMs > expirationMs) {
+                map.remove(key);
+                return null;
+            }
+            return e.value;
+        }
+
+        void put(String key, Object value, long now) {
+            map.put(key, new Entry(value, now));
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
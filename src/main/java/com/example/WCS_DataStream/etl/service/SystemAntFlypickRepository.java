@@ -6,13 +6,34 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class SystemAntFlypickRepository {
 
+    private static final String INSERT_SQL = """
+            INSERT INTO public.ant_flypick_info (
+              uuid, robot_no, robot_type, map_code, zone_code, status, manual,
+              report_time, battery, node_id, pos_x, pos_y, speed, task_id, next_target,
+              pod_id, ins_dt, ins_user_id, upd_dt, upd_user_id
+            ) VALUES (
+              ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
+            )
+        """;
+
+    private static final String TABLE = "public.ant_flypick_info";
+    private static final String COLUMNS =
+        "uuid, robot_no, robot_type, map_code, zone_code, status, manual, report_time, battery, node_id, pos_x, pos_y, speed, task_id, next_target, pod_id, ins_dt, ins_user_id, upd_dt, upd_user_id";
+
     private final JdbcTemplate postgresqlJdbcTemplate;
+    private final PostgresCopyLoader copyLoader;
 
-    public SystemAntFlypickRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate) {
+    public SystemAntFlypickRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate, PostgresCopyLoader copyLoader) {
         this.postgresqlJdbcTemplate = postgresqlJdbcTemplate;
+        this.copyLoader = copyLoader;
     }
 
     public boolean isConnected() {
@@ -21,19 +42,37 @@ public class SystemAntFlypickRepository {
 
     @Transactional(transactionManager = "postgresqlTransactionManager")
     public int upsert(AntFlypickInfoRecord r) {
-        String sql = """
-            INSERT INTO public.ant_flypick_info (
-              uuid, robot_no, robot_type, map_code, zone_code, status, manual,
-              report_time, battery, node_id, pos_x, pos_y, speed, task_id, next_target,
-              pod_id, ins_dt, ins_user_id, upd_dt, upd_user_id
-            ) VALUES (
-              ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
-            )
-        """;
-        return postgresqlJdbcTemplate.update(sql,
+        return postgresqlJdbcTemplate.update(INSERT_SQL, toArgs(r));
+    }
+
+    /**
+     * 페이지 단위 일괄 적재 (단일 트랜잭션 + JDBC batch)
+     * reWriteBatchedInserts=true 설정 시 드라이버가 multi-row INSERT로 재작성합니다.
+     */
+    @Transactional(transactionManager = "postgresqlTransactionManager")
+    public int upsertAll(List<AntFlypickInfoRecord> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (AntFlypickInfoRecord r : rows) batchArgs.add(toArgs(r));
+        int[] counts = postgresqlJdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        int total = 0;
+        for (int c : counts) total += (c == Statement.SUCCESS_NO_INFO) ? 1 : Math.max(c, 0);
+        return total;
+    }
+
+    /**
+     * COPY FROM STDIN 기반 일괄 적재 (append-only 테이블 전용)
+     * 진행 중인 트랜잭션이 있으면 그 안에서(오프셋과 함께 커밋) 실행되고, 실패 시 이 COPY 의 행은 모두 취소됩니다.
+     */
+    public long copyAll(List<AntFlypickInfoRecord> rows) throws SQLException {
+        return copyLoader.copyIn(TABLE, COLUMNS, rows, this::toArgs);
+    }
+
+    private Object[] toArgs(AntFlypickInfoRecord r) {
+        return new Object[] {
             r.getUuid(), r.getRobotNo(), r.getRobotType(), r.getMapCode(), r.getZoneCode(), r.getStatus(), r.getManual(),
             r.getReportTime(), r.getBattery(), r.getNodeId(), r.getPosX(), r.getPosY(), r.getSpeed(), r.getTaskId(), r.getNextTarget(),
             r.getPodId(), r.getInsDt(), r.getInsUserId(), r.getUpdDt(), r.getUpdUserId()
-        );
+        };
     }
 } 
\ No newline at end of file
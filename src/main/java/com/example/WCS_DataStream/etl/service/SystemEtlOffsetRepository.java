@@ -0,0 +1,62 @@
+package com.example.WCS_DataStream.etl.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * ETL 오프셋 저장소 (PostgreSQL)
+ *
+ * 적재 트랜잭션과 같은 커넥션에서 오프셋을 갱신해 데이터와 오프셋이 함께 커밋/롤백되도록 합니다.
+ */
+@Service
+public class SystemEtlOffsetRepository {
+
+    private final JdbcTemplate postgresqlJdbcTemplate;
+
+    public SystemEtlOffsetRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate) {
+        this.postgresqlJdbcTemplate = postgresqlJdbcTemplate;
+    }
+
+    @PostConstruct
+    public void ensureTableExists() {
+        try {
+            String ddl = """
+                CREATE TABLE IF NOT EXISTS public.etl_offset (
+                    job                  VARCHAR(64)  PRIMARY KEY,
+                    last_ts              TIMESTAMP,
+                    last_uuid            VARCHAR(100),
+                    sync_version         BIGINT,
+                    upd_dt               TIMESTAMPTZ  DEFAULT CURRENT_TIMESTAMP
+                )
+                """;
+            postgresqlJdbcTemplate.execute(ddl);
+            // 기존 테이블 보강 (CHANGE_TRACKING 동기화 버전)
+            postgresqlJdbcTemplate.execute("ALTER TABLE public.etl_offset ADD COLUMN IF NOT EXISTS sync_version BIGINT");
+            // 기존 테이블 보강 (WCS UUID 는 NVARCHAR(100), 길이만 늘리므로 테이블 재작성 없음)
+            postgresqlJdbcTemplate.execute("ALTER TABLE public.etl_offset ALTER COLUMN last_uuid TYPE VARCHAR(100)");
+        } catch (Exception ignore) {
+        }
+    }
+
+    public EtlOffsetStore.Offset find(String job) {
+        String sql = "SELECT last_ts, last_uuid, sync_version FROM public.etl_offset WHERE job = ?";
+        List<EtlOffsetStore.Offset> list = postgresqlJdbcTemplate.query(sql, ps -> ps.setString(1, job),
+                (rs, i) -> new EtlOffsetStore.Offset(rs.getTimestamp("last_ts"), rs.getString("last_uuid"),
+                        rs.getObject("sync_version") == null ? null : rs.getLong("sync_version")));
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    public void upsert(String job, EtlOffsetStore.Offset offset) {
+        String sql = """
+            INSERT INTO public.etl_offset (job, last_ts, last_uuid, sync_version, upd_dt)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (job) DO UPDATE SET last_ts = EXCLUDED.last_ts, last_uuid = EXCLUDED.last_uuid,
+                sync_version = EXCLUDED.sync_version, upd_dt = EXCLUDED.upd_dt
+        """;
+        postgresqlJdbcTemplate.update(sql, job, offset.lastTs, offset.lastUuid, offset.syncVersion);
+    }
+}
@@ -6,13 +6,33 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class SystemMushinyAgvRepository {
 
+    private static final String INSERT_SQL = """
+            INSERT INTO public.mushiny_agv_info (
+              uuid, robot_no, zone_code, node_id, direction_front, pod_id, pod_direction,
+              status, manual, battery, pos_x, pos_y, has_pod, ins_dt, ins_user_id, upd_dt, upd_user_id
+            ) VALUES (
+              ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
+            )
+        """;
+
+    private static final String TABLE = "public.mushiny_agv_info";
+    private static final String COLUMNS =
+        "uuid, robot_no, zone_code, node_id, direction_front, pod_id, pod_direction, status, manual, battery, pos_x, pos_y, has_pod, ins_dt, ins_user_id, upd_dt, upd_user_id";
+
     private final JdbcTemplate postgresqlJdbcTemplate;
+    private final PostgresCopyLoader copyLoader;
 
-    public SystemMushinyAgvRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate) {
+    public SystemMushinyAgvRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate, PostgresCopyLoader copyLoader) {
         this.postgresqlJdbcTemplate = postgresqlJdbcTemplate;
+        this.copyLoader = copyLoader;
     }
 
     public boolean isConnected() {
@@ -21,17 +41,36 @@ public class SystemMushinyAgvRepository {
 
     @Transactional(transactionManager = "postgresqlTransactionManager")
     public int upsert(MushinyAgvInfoRecord r) {
-        String sql = """
-            INSERT INTO public.mushiny_agv_info (
-              uuid, robot_no, zone_code, node_id, direction_front, pod_id, pod_direction,
-              status, manual, battery, pos_x, pos_y, has_pod, ins_dt, ins_user_id, upd_dt, upd_user_id
-            ) VALUES (
-              ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?
-            )
-        """;
-        return postgresqlJdbcTemplate.update(sql,
+        return postgresqlJdbcTemplate.update(INSERT_SQL, toArgs(r));
+    }
+
+    /**
+     * 페이지 단위 일괄 적재 (단일 트랜잭션 + JDBC batch)
+     * reWriteBatchedInserts=true 설정 시 드라이버가 multi-row INSERT로 재작성합니다.
+     */
+    @Transactional(transactionManager = "postgresqlTransactionManager")
+    public int upsertAll(List<MushinyAgvInfoRecord> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+        List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (MushinyAgvInfoRecord r : rows) batchArgs.add(toArgs(r));
+        int[] counts = postgresqlJdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        int total = 0;
+        for (int c : counts) total += (c == Statement.SUCCESS_NO_INFO) ? 1 : Math.max(c, 0);
+        return total;
+    }
+
+    /**
+     * COPY FROM STDIN 기반 일괄 적재 (append-only 테이블 전용)
+     * 진행 중인 트랜잭션이 있으면 그 안에서(오프셋과 함께 커밋) 실행되고, 실패 시 이 COPY 의 행은 모두 취소됩니다.
+     */
+    public long copyAll(List<MushinyAgvInfoRecord> rows) throws SQLException {
+        return copyLoader.copyIn(TABLE, COLUMNS, rows, this::toArgs);
+    }
+
+    private Object[] toArgs(MushinyAgvInfoRecord r) {
+        return new Object[] {
             r.getUuid(), r.getRobotNo(), r.getZoneCode(), r.getNodeId(), r.getDirectionFront(), r.getPodId(), r.getPodDirection(),
             r.getStatus(), r.getManual(), r.getBattery(), r.getPosX(), r.getPosY(), r.getHasPod(), r.getInsDt(), r.getInsUserId(), r.getUpdDt(), r.getUpdUserId()
-        );
+        };
     }
 } 
\ No newline at end of file
@@ -13,6 +13,9 @@ import java.util.List;
 @Service
 public class SystemScheduleConfigRepository {
 
+	/** etl_scheduler_config 변경 알림 채널 (payload: domain) */
+	public static final String NOTIFY_CHANNEL = "etl_scheduler_config";
+
 	private final JdbcTemplate postgresqlJdbcTemplate;
 
 	public SystemScheduleConfigRepository(@Qualifier("postgresqlJdbcTemplate") JdbcTemplate postgresqlJdbcTemplate) {
@@ -37,6 +40,30 @@ public class SystemScheduleConfigRepository {
             postgresqlJdbcTemplate.execute(ddl);
         } catch (Exception ignore) {
         }
+        // 설정 변경 시 NOTIFY (ScheduleConfigWatcher 가 LISTEN)
+        try {
+            String fn = """
+                CREATE OR REPLACE FUNCTION public.etl_scheduler_config_notify() RETURNS trigger AS $$
+                BEGIN
+                    PERFORM pg_notify('%s', COALESCE(NEW.domain, OLD.domain));
+                    RETURN NULL;
+                END;
+                $$ LANGUAGE plpgsql
+                """.formatted(NOTIFY_CHANNEL);
+            postgresqlJdbcTemplate.execute(fn);
+            postgresqlJdbcTemplate.execute("DROP TRIGGER IF EXISTS etl_scheduler_config_notify ON public.etl_scheduler_config");
+            postgresqlJdbcTemplate.execute("""
+                CREATE TRIGGER etl_scheduler_config_notify
+                AFTER INSERT OR UPDATE OR DELETE ON public.etl_scheduler_config
+                FOR EACH ROW EXECUTE FUNCTION public.etl_scheduler_config_notify()
+                """);
+        } catch (Exception ignore) {
+        }
+    }
+
+    public List<EtlScheduleConfig> findAll() {
+        String sql = "SELECT domain, enabled, interval_ms, initial_delay_ms, description, upd_id, upd_dt, uuid_id FROM public.etl_scheduler_config";
+        return postgresqlJdbcTemplate.query(sql, this::mapRow);
     }
 
 	public EtlScheduleConfig getByDomain(String domain) {
@@ -1,69 +1,217 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ChangeTrackingPage;
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.KeysetRange;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
+import com.example.WCS_DataStream.etl.common.WcsKeysetQuery;
+import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.vendor.ant.AntRobotInfoRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class WcsAntRobotRepository {
 
     private final JdbcTemplate wcsJdbcTemplate;
+    private final ETLConfig.ExtractionMode extractionMode;
 
-    public WcsAntRobotRepository(JdbcTemplate wcsJdbcTemplate) {
+    public WcsAntRobotRepository(JdbcTemplate wcsJdbcTemplate,
+            @Value("${etl.extraction.antRobot:TIMESTAMP}") ETLConfig.ExtractionMode extractionMode) {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
+        this.extractionMode = extractionMode;
     }
 
     public List<AntRobotInfoRecord> fetchIncremental(Timestamp lastTs, String lastUuid, int limit) {
-        String sql = """
+        return wcsJdbcTemplate.query(incrementalSql(), ps -> {
+            ps.setInt(1, limit);
+            ps.setTimestamp(2, lastTs);
+            ps.setTimestamp(3, lastTs);
+            ps.setString(4, lastUuid == null ? "" : lastUuid);
+        }, new Mapper());
+    }
+
+    /**
+     * fetchIncremental 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<AntRobotInfoRecord> incrementalQuery(Timestamp lastTs, String lastUuid, int limit) {
+        return new WcsBatchQuery<>("antrobot", incrementalSql(), new Mapper(), limit, lastTs, lastTs, lastUuid == null ? "" : lastUuid);
+    }
+
+    /**
+     * fetchIncremental 과 같은 조회를 리스트로 모으지 않고 chunkSize 단위로 chunkSink 에 전달
+     *
+     * 전달한 청크는 다시 사용하지 않으며, fetchSize 만큼씩 드라이버에서 읽어 옵니다.
+     */
+    public void streamIncremental(Timestamp lastTs, String lastUuid, int limit, int fetchSize, int chunkSize,
+                                  Consumer<List<AntRobotInfoRecord>> chunkSink) {
+        Mapper mapper = new Mapper();
+        List<List<AntRobotInfoRecord>> holder = new ArrayList<>(1);
+        holder.add(new ArrayList<>(chunkSize));
+        wcsJdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(incrementalSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, limit);
+            ps.setTimestamp(2, lastTs);
+            ps.setTimestamp(3, lastTs);
+            ps.setString(4, lastUuid == null ? "" : lastUuid);
+            return ps;
+        }, rs -> {
+            List<AntRobotInfoRecord> chunk = holder.get(0);
+            chunk.add(mapper.mapRow(rs, 0));
+            if (chunk.size() >= chunkSize) {
+                chunkSink.accept(chunk);
+                holder.set(0, new ArrayList<>(chunkSize));
+            }
+        });
+        if (!holder.get(0).isEmpty()) chunkSink.accept(holder.get(0));
+    }
+
+    private String incrementalSql() {
+        return """
             SELECT TOP (?)
               UUID, ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, LOADERS,
               REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET,
               POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID
             FROM cdc_test.dbo.ANT_ROBOT_INFO WITH (READPAST)
-            WHERE (COALESCE(UPD_DT, INS_DT) > ?)
-               OR (COALESCE(UPD_DT, INS_DT) = ? AND UUID > ?)
-            ORDER BY COALESCE(UPD_DT, INS_DT) ASC, UUID ASC
-        """;
+        """ + WcsKeysetQuery.predicate(extractionMode);
+    }
+
+    /**
+     * 병렬 백필: 구간 상한까지 (lastTs, lastUuid) 다음 행부터 최대 limit 행 조회
+     *
+     * 백필 완료 시 구간 상한이 곧 증분 오프셋이 되므로 잠긴 행을 건너뛰지 않도록 READPAST 를 쓰지 않습니다.
+     */
+    public List<AntRobotInfoRecord> fetchRange(KeysetRange range, Timestamp lastTs, String lastUuid, int limit) {
+        String sql = """
+            SELECT TOP (?)
+              UUID, ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, LOADERS,
+              REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET,
+              POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID
+            FROM cdc_test.dbo.ANT_ROBOT_INFO
+        """ + WcsKeysetQuery.rangePredicate(extractionMode);
         return wcsJdbcTemplate.query(sql, ps -> {
             ps.setInt(1, limit);
             ps.setTimestamp(2, lastTs);
             ps.setTimestamp(3, lastTs);
             ps.setString(4, lastUuid == null ? "" : lastUuid);
-        }, this::mapRow);
+            ps.setTimestamp(5, range.getHiTs());
+            ps.setTimestamp(6, range.getHiTs());
+            ps.setString(7, range.getHiUuid());
+        }, new Mapper());
+    }
+
+    public ETLConfig.ExtractionMode getExtractionMode() {
+        return extractionMode;
     }
 
-    private AntRobotInfoRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
-        AntRobotInfoRecord r = new AntRobotInfoRecord();
-        r.setUuid(rs.getString("UUID"));
-        r.setRobotNo(rs.getString("ROBOT_NO"));
-        r.setRobotType(rs.getString("ROBOT_TYPE"));
-        r.setMapCode(rs.getString("MAP_CODE"));
-        r.setZoneCode(rs.getString("ZONE_CODE"));
-        r.setStatus(rs.getObject("STATUS") == null ? null : rs.getInt("STATUS"));
-        r.setManual(parseManual(rs.getString("MANUAL")));
-        r.setLoaders(rs.getString("LOADERS"));
-        r.setReportTime(rs.getString("REPORT_TIME"));
-        r.setBattery(rs.getBigDecimal("BATTERY"));
-        r.setNodeId(rs.getString("NODE_ID"));
-        r.setPosX(rs.getBigDecimal("POS_X"));
-        r.setPosY(rs.getBigDecimal("POS_Y"));
-        r.setSpeed(rs.getBigDecimal("SPEED"));
-        r.setTaskId(rs.getString("TASK_ID"));
-        r.setNextTarget(rs.getString("NEXT_TARGET"));
-        r.setPodId(rs.getString("POD_ID"));
-        r.setInsDt(rs.getTimestamp("INS_DT"));
-        r.setInsUserId(rs.getString("INS_USER_ID"));
-        r.setUpdDt(rs.getTimestamp("UPD_DT"));
-        r.setUpdUserId(rs.getString("UPD_USER_ID"));
-        return r;
+    /**
+     * CHANGE_TRACKING: syncVersion 이후 변경된 행을 (버전, UUID) 순으로 조회
+     *
+     * 같은 버전의 나머지 행(lastUuid 이후)부터 이어 읽기 위해 syncVersion - 1 기준으로 CHANGETABLE 을 조회합니다.
+     * 변경 버전 순서를 건너뛰지 않도록 READPAST 를 쓰지 않으며, 삭제된 행은 조인에서 제외됩니다.
+     */
+    public ChangeTrackingPage<AntRobotInfoRecord> fetchChanges(long syncVersion, String lastUuid, int limit) {
+        String sql = """
+            SELECT TOP (?)
+              ct.SYS_CHANGE_VERSION AS CT_VERSION,
+              t.UUID, t.ROBOT_NO, t.ROBOT_TYPE, t.MAP_CODE, t.ZONE_CODE, t.STATUS, t.MANUAL, t.LOADERS,
+              t.REPORT_TIME, t.BATTERY, t.NODE_ID, t.POS_X, t.POS_Y, t.SPEED, t.TASK_ID, t.NEXT_TARGET,
+              t.POD_ID, t.INS_DT, t.INS_USER_ID, t.UPD_DT, t.UPD_USER_ID
+            FROM CHANGETABLE(CHANGES cdc_test.dbo.ANT_ROBOT_INFO, ?) AS ct
+            JOIN cdc_test.dbo.ANT_ROBOT_INFO t ON t.UUID = ct.UUID
+            WHERE ct.SYS_CHANGE_VERSION > ?
+               OR (ct.SYS_CHANGE_VERSION = ? AND ct.UUID > ?)
+            ORDER BY ct.SYS_CHANGE_VERSION ASC, ct.UUID ASC
+        """;
+        ChangeTrackingPage<AntRobotInfoRecord> page = new ChangeTrackingPage<>();
+        Mapper mapper = new Mapper();
+        wcsJdbcTemplate.query(sql, ps -> {
+            ps.setInt(1, limit);
+            ps.setLong(2, syncVersion - 1);
+            ps.setLong(3, syncVersion);
+            ps.setLong(4, syncVersion);
+            ps.setString(5, lastUuid == null ? "" : lastUuid);
+        }, rs -> {
+            AntRobotInfoRecord r = mapper.mapRow(rs, 0);
+            page.add(r, rs.getLong("CT_VERSION"), r.getUuid());
+        });
+        return page;
+    }
+
+    static final class Mapper implements RowMapper<AntRobotInfoRecord> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public AntRobotInfoRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            AntRobotInfoRecord r = new AntRobotInfoRecord();
+            r.setUuid(rs.getString(c.uuid));
+            r.setRobotNo(rs.getString(c.robotNo));
+            r.setRobotType(rs.getString(c.robotType));
+            r.setMapCode(rs.getString(c.mapCode));
+            r.setZoneCode(rs.getString(c.zoneCode));
+            r.setStatus(ColumnOrdinals.getInteger(rs, c.status));
+            r.setManual(parseManual(rs.getString(c.manual)));
+            r.setLoaders(rs.getString(c.loaders));
+            r.setReportTime(rs.getString(c.reportTime));
+            r.setBattery(rs.getBigDecimal(c.battery));
+            r.setNodeId(rs.getString(c.nodeId));
+            r.setPosX(rs.getBigDecimal(c.posX));
+            r.setPosY(rs.getBigDecimal(c.posY));
+            r.setSpeed(rs.getBigDecimal(c.speed));
+            r.setTaskId(rs.getString(c.taskId));
+            r.setNextTarget(rs.getString(c.nextTarget));
+            r.setPodId(rs.getString(c.podId));
+            r.setInsDt(rs.getTimestamp(c.insDt));
+            r.setInsUserId(rs.getString(c.insUserId));
+            r.setUpdDt(rs.getTimestamp(c.updDt));
+            r.setUpdUserId(rs.getString(c.updUserId));
+            return r;
+        }
+
+        private static final class Columns {
+            final int uuid, robotNo, robotType, mapCode, zoneCode, status, manual, loaders, reportTime,
+                    battery, nodeId, posX, posY, speed, taskId, nextTarget, podId, insDt, insUserId, updDt,
+                    updUserId;
+
+            Columns(ResultSet rs) throws SQLException {
+                uuid = rs.findColumn("UUID");
+                robotNo = rs.findColumn("ROBOT_NO");
+                robotType = rs.findColumn("ROBOT_TYPE");
+                mapCode = rs.findColumn("MAP_CODE");
+                zoneCode = rs.findColumn("ZONE_CODE");
+                status = rs.findColumn("STATUS");
+                manual = rs.findColumn("MANUAL");
+                loaders = rs.findColumn("LOADERS");
+                reportTime = rs.findColumn("REPORT_TIME");
+                battery = rs.findColumn("BATTERY");
+                nodeId = rs.findColumn("NODE_ID");
+                posX = rs.findColumn("POS_X");
+                posY = rs.findColumn("POS_Y");
+                speed = rs.findColumn("SPEED");
+                taskId = rs.findColumn("TASK_ID");
+                nextTarget = rs.findColumn("NEXT_TARGET");
+                podId = rs.findColumn("POD_ID");
+                insDt = rs.findColumn("INS_DT");
+                insUserId = rs.findColumn("INS_USER_ID");
+                updDt = rs.findColumn("UPD_DT");
+                updUserId = rs.findColumn("UPD_USER_ID");
+            }
+        }
     }
 
-    private Boolean parseManual(String v) {
+    private static Boolean parseManual(String v) {
         if (v == null) return null;
         String s = v.trim().toLowerCase();
         return s.equals("y") || s.equals("yes") || s.equals("1") || s.equals("true");
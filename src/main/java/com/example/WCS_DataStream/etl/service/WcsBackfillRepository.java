@@ -0,0 +1,75 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.example.WCS_DataStream.etl.common.KeysetRange;
+import com.example.WCS_DataStream.etl.common.WcsKeysetQuery;
+import com.example.WCS_DataStream.etl.config.ETLConfig;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * WCS 병렬 백필 구간 계획 / 백로그 추정
+ *
+ * 테이블의 키셋 최소/최대 시각과 최대 시각의 최대 UUID 를 읽어 상한을 고정하고 시간 구간으로 나눕니다.
+ * 구간별 행 조회는 각 Wcs*Repository.fetchRange 에서 수행합니다.
+ * countAfter 는 오프셋 이후 행 수를 cap 까지만 세어 EtlFreshnessMonitor 가 주기적으로 샘플링합니다.
+ * 인덱스로 범위를 좁힐 수 있는 CHANGE_COLUMN / CHANGE_TRACKING 오프셋만 세고, TIMESTAMP 키셋은 세지 않습니다(-1).
+ */
+@Service
+public class WcsBackfillRepository {
+
+    private final JdbcTemplate wcsJdbcTemplate;
+
+    public WcsBackfillRepository(JdbcTemplate wcsJdbcTemplate) {
+        this.wcsJdbcTemplate = wcsJdbcTemplate;
+    }
+
+    /**
+     * @param table 예: cdc_test.dbo.ANT_ROBOT_INFO
+     * @param parts 최대 구간 수
+     * @return 키셋 순서의 구간 목록, 빈 테이블이면 빈 목록
+     */
+    public List<KeysetRange> planRanges(String table, ETLConfig.ExtractionMode mode, int parts) {
+        String ts = WcsKeysetQuery.timestampExpression(mode);
+        Timestamp[] bounds = wcsJdbcTemplate.queryForObject(
+                "SELECT MIN(" + ts + ") AS MIN_TS, MAX(" + ts + ") AS MAX_TS FROM " + table,
+                (rs, rowNum) -> new Timestamp[] { rs.getTimestamp("MIN_TS"), rs.getTimestamp("MAX_TS") });
+        if (bounds == null || bounds[0] == null || bounds[1] == null) return List.of();
+        String maxUuid = wcsJdbcTemplate.queryForObject(
+                "SELECT MAX(UUID) FROM " + table + " WHERE " + ts + " = ?", String.class, bounds[1]);
+        return KeysetRange.split(bounds[0], bounds[1], maxUuid == null ? "" : maxUuid, Math.max(1, parts));
+    }
+
+    /**
+     * 오프셋 이후(증분 추출이 아직 읽지 않은) 행 수, 최대 cap 건
+     *
+     * 동기화 버전이 있는 오프셋은 CHANGETABLE 변경 행 수(삭제 포함 근사치)를 (버전, 기본 키) 키셋으로 셉니다.
+     * CHANGE_COLUMN 은 증분 조회와 같은 키셋 조건의 TOP (cap) 하위 조회(정렬 없음)를 세므로 (CHG_TS, UUID) 인덱스 범위 seek 로 끝납니다.
+     * 그 밖(TIMESTAMP, CHANGE_TRACKING 부트스트랩 중)은 COALESCE(UPD_DT, INS_DT) 가 seek 되지 않아
+     * 샘플마다 전체 스캔이 되므로 세지 않고 -1(모름)을 돌려줍니다.
+     *
+     * @param keyColumn CHANGETABLE 기본 키 열 (대부분 UUID, ANT_FLYPICK_INFO 는 ROBOT_NO)
+     * @param offset null 이면 테이블 처음부터
+     * @return 최대 cap 건, 세지 않으면 -1
+     */
+    public long countAfter(String table, String keyColumn, ETLConfig.ExtractionMode mode, EtlOffsetStore.Offset offset, int cap) {
+        if (offset != null && offset.syncVersion != null) {
+            Long n = wcsJdbcTemplate.queryForObject(
+                    "SELECT COUNT_BIG(*) FROM (SELECT TOP (?) 1 AS X FROM CHANGETABLE(CHANGES " + table + ", ?) AS ct"
+                            + " WHERE ct.SYS_CHANGE_VERSION > ? OR (ct.SYS_CHANGE_VERSION = ? AND ct." + keyColumn + " > ?)) b",
+                    Long.class, cap, offset.syncVersion - 1, offset.syncVersion, offset.syncVersion,
+                    offset.lastUuid == null ? "" : offset.lastUuid);
+            return n == null ? 0L : n;
+        }
+        if (mode != ETLConfig.ExtractionMode.CHANGE_COLUMN) return -1;
+        Timestamp lastTs = (offset == null || offset.lastTs == null) ? new Timestamp(0) : offset.lastTs;
+        String lastUuid = offset == null ? null : offset.lastUuid;
+        Long n = wcsJdbcTemplate.queryForObject(
+                "SELECT COUNT_BIG(*) FROM (SELECT TOP (?) 1 AS X FROM " + table + " WITH (READPAST) "
+                        + WcsKeysetQuery.changeColumnCondition() + ") b",
+                Long.class, cap, lastTs, lastTs, lastUuid);
+        return n == null ? 0L : n;
+    }
+}
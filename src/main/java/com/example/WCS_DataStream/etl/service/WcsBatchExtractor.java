@@ -0,0 +1,99 @@
+package com.example.WCS_DataStream.etl.service;
+
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WCS 다중 결과 집합 추출기
+ *
+ * 여러 도메인의 SELECT 를 하나의 SQL 배치로 묶어 커넥션 체크아웃 한 번, 왕복 한 번으로 실행하고
+ * 결과 집합을 순서대로 각 WcsBatchQuery 에 채웁니다. 배치 앞에 SET NOCOUNT ON 을 두어
+ * 결과 집합 사이에 행 수 메시지가 끼지 않도록 합니다.
+ *
+ * 지표: etl_wcs_batch_duration (배치 실행 + 매핑 시간), etl_wcs_batch_queries (배치당 조회 수)
+ */
+@Service
+public class WcsBatchExtractor {
+
+    private final JdbcTemplate wcsJdbcTemplate;
+    private final Timer batchTimer;
+    private final DistributionSummary batchQueries;
+
+    public WcsBatchExtractor(JdbcTemplate wcsJdbcTemplate, MeterRegistry registry) {
+        this.wcsJdbcTemplate = wcsJdbcTemplate;
+        this.batchTimer = Timer.builder("etl_wcs_batch_duration")
+                .publishPercentiles(0.5, 0.95, 0.99).register(registry);
+        this.batchQueries = DistributionSummary.builder("etl_wcs_batch_queries").register(registry);
+    }
+
+    /**
+     * 조회 목록을 한 배치로 실행하고 결과 행을 각 조회에 채웁니다.
+     *
+     * 하나라도 실패하면 예외를 던지며, 이때 어떤 조회에도 결과가 채워지지 않습니다.
+     */
+    public void execute(List<WcsBatchQuery<?>> queries) {
+        if (queries == null || queries.isEmpty()) return;
+        StringBuilder sql = new StringBuilder("SET NOCOUNT ON;\n");
+        List<Object> args = new ArrayList<>();
+        for (WcsBatchQuery<?> q : queries) {
+            sql.append(q.getSql().strip()).append(";\n");
+            for (Object arg : q.getArgs()) args.add(arg);
+        }
+        batchQueries.record(queries.size());
+        List<List<?>> results = batchTimer.record(() -> wcsJdbcTemplate.execute((ConnectionCallback<List<List<?>>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(sql.toString())) {
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                List<List<?>> mapped = new ArrayList<>(queries.size());
+                boolean isResultSet = ps.execute();
+                while (true) {
+                    if (isResultSet) {
+                        if (mapped.size() >= queries.size()) {
+                            throw new SQLException("WCS 배치 결과 집합이 조회 수보다 많습니다: " + queries.size());
+                        }
+                        try (ResultSet rs = ps.getResultSet()) {
+                            mapped.add(map(queries.get(mapped.size()), rs));
+                        }
+                    } else if (ps.getUpdateCount() == -1) {
+                        break;
+                    }
+                    isResultSet = ps.getMoreResults();
+                }
+                if (mapped.size() != queries.size()) {
+                    throw new SQLException("WCS 배치 결과 집합 수 불일치: expected=" + queries.size() + ", actual=" + mapped.size());
+                }
+                return mapped;
+            }
+        }));
+        // 모든 결과 집합을 읽은 뒤에만 채움 (부분 실패 시 일부 도메인만 결과를 받지 않도록)
+        for (int i = 0; i < queries.size(); i++) {
+            fill(queries.get(i), results.get(i));
+        }
+    }
+
+    private static <T> List<T> map(WcsBatchQuery<T> query, ResultSet rs) throws SQLException {
+        List<T> rows = new ArrayList<>();
+        int rowNum = 0;
+        while (rs.next()) {
+            rows.add(query.getMapper().mapRow(rs, rowNum++));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void fill(WcsBatchQuery<T> query, List<?> rows) {
+        query.setRows((List<T>) rows);
+    }
+}
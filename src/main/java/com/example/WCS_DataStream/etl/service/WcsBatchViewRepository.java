@@ -1,7 +1,10 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.model.view.BatchViewRow;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
 import java.sql.ResultSet;
@@ -17,20 +20,44 @@ public class WcsBatchViewRepository {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
     }
 
+    private static final String FETCH_ALL_SQL = """
+        SELECT BATCH_NO, START_TIME, END_TIME
+        FROM dbo.BATCH_VIEW WITH (READPAST)
+    """;
+
     public List<BatchViewRow> fetchAll() {
-        String sql = """
-            SELECT BATCH_NO, START_TIME, END_TIME
-            FROM dbo.BATCH_VIEW WITH (READPAST)
-        """;
-        return wcsJdbcTemplate.query(sql, this::mapRow);
+        return wcsJdbcTemplate.query(FETCH_ALL_SQL, new Mapper());
+    }
+
+    /**
+     * fetchAll 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<BatchViewRow> fetchAllQuery() {
+        return new WcsBatchQuery<>("batch_view", FETCH_ALL_SQL, new Mapper());
     }
 
-    private BatchViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
-        return new BatchViewRow(
-            rs.getString("BATCH_NO"),
-            rs.getString("START_TIME"),
-            rs.getString("END_TIME")
-        );
+    static final class Mapper implements RowMapper<BatchViewRow> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public BatchViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            return new BatchViewRow(
+                rs.getString(c.batchNo),
+                rs.getString(c.startTime),
+                rs.getString(c.endTime)
+            );
+        }
+
+        private static final class Columns {
+            final int batchNo, startTime, endTime;
+
+            Columns(ResultSet rs) throws SQLException {
+                batchNo = rs.findColumn("BATCH_NO");
+                startTime = rs.findColumn("START_TIME");
+                endTime = rs.findColumn("END_TIME");
+            }
+        }
     }
 }
 
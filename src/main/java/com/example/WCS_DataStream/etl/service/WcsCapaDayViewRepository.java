@@ -1,7 +1,10 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.model.view.CapaDayViewRow;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -18,19 +21,43 @@ public class WcsCapaDayViewRepository {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
     }
 
+    private static final String FETCH_ALL_SQL = """
+        SELECT TIME, QTY, [TYPE]
+        FROM dbo.CAPA_DAY_VIEW WITH (READPAST)
+    """;
+
     public List<CapaDayViewRow> fetchAll() {
-        String sql = """
-            SELECT TIME, QTY, [TYPE]
-            FROM dbo.CAPA_DAY_VIEW WITH (READPAST)
-        """;
-        return wcsJdbcTemplate.query(sql, this::mapRow);
+        return wcsJdbcTemplate.query(FETCH_ALL_SQL, new Mapper());
+    }
+
+    /**
+     * fetchAll 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<CapaDayViewRow> fetchAllQuery() {
+        return new WcsBatchQuery<>("capa_day_view", FETCH_ALL_SQL, new Mapper());
     }
 
-    private CapaDayViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
-        String time = rs.getString("TIME");
-        BigDecimal qty = rs.getBigDecimal("QTY");
-        String type = rs.getString("TYPE");
-        return new CapaDayViewRow(time, qty, type);
+    static final class Mapper implements RowMapper<CapaDayViewRow> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public CapaDayViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            String time = rs.getString(c.time);
+            BigDecimal qty = rs.getBigDecimal(c.qty);
+            String type = rs.getString(c.type);
+            return new CapaDayViewRow(time, qty, type);
+        }
+
+        private static final class Columns {
+            final int time, qty, type;
+
+            Columns(ResultSet rs) throws SQLException {
+                time = rs.findColumn("TIME");
+                qty = rs.findColumn("QTY");
+                type = rs.findColumn("TYPE");
+            }
+        }
     }
 }
 
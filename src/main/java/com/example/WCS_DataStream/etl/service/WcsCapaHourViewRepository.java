@@ -1,7 +1,10 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.model.view.CapaHourViewRow;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -18,19 +21,43 @@ public class WcsCapaHourViewRepository {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
     }
 
+    private static final String FETCH_ALL_SQL = """
+        SELECT TIME, [TYPE], QTY
+        FROM dbo.CAPA_HOUR_VIEW WITH (READPAST)
+    """;
+
     public List<CapaHourViewRow> fetchAll() {
-        String sql = """
-            SELECT TIME, [TYPE], QTY
-            FROM dbo.CAPA_HOUR_VIEW WITH (READPAST)
-        """;
-        return wcsJdbcTemplate.query(sql, this::mapRow);
+        return wcsJdbcTemplate.query(FETCH_ALL_SQL, new Mapper());
+    }
+
+    /**
+     * fetchAll 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<CapaHourViewRow> fetchAllQuery() {
+        return new WcsBatchQuery<>("capa_hour_view", FETCH_ALL_SQL, new Mapper());
     }
 
-    private CapaHourViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
-        String time = rs.getString("TIME");
-        String type = rs.getString("TYPE");
-        BigDecimal qty = rs.getBigDecimal("QTY");
-        return new CapaHourViewRow(time, type, qty);
+    static final class Mapper implements RowMapper<CapaHourViewRow> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public CapaHourViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            String time = rs.getString(c.time);
+            String type = rs.getString(c.type);
+            BigDecimal qty = rs.getBigDecimal(c.qty);
+            return new CapaHourViewRow(time, type, qty);
+        }
+
+        private static final class Columns {
+            final int time, type, qty;
+
+            Columns(ResultSet rs) throws SQLException {
+                time = rs.findColumn("TIME");
+                type = rs.findColumn("TYPE");
+                qty = rs.findColumn("QTY");
+            }
+        }
     }
 }
 
@@ -0,0 +1,37 @@
+package com.example.WCS_DataStream.etl.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * WCS SQL Server Change Tracking 버전 조회
+ *
+ * 테이블별 변경 조회(CHANGETABLE)는 각 Wcs*Repository.fetchChanges 에서 수행합니다.
+ */
+@Service
+public class WcsChangeTrackingRepository {
+
+    private final JdbcTemplate wcsJdbcTemplate;
+
+    public WcsChangeTrackingRepository(JdbcTemplate wcsJdbcTemplate) {
+        this.wcsJdbcTemplate = wcsJdbcTemplate;
+    }
+
+    /**
+     * 현재 DB 변경 추적 버전 (부트스트랩 시작 시점 고정용)
+     */
+    public long currentVersion() {
+        Long v = wcsJdbcTemplate.queryForObject("SELECT CHANGE_TRACKING_CURRENT_VERSION()", Long.class);
+        return v == null ? 0L : v;
+    }
+
+    /**
+     * 테이블의 최소 유효 버전 (보존 기간 정리로 이보다 오래된 동기화 버전은 사용할 수 없음)
+     *
+     * @param table 예: cdc_test.dbo.ANT_ROBOT_INFO
+     * @return 최소 유효 버전, 변경 추적이 꺼져 있으면 null
+     */
+    public Long minValidVersion(String table) {
+        return wcsJdbcTemplate.queryForObject("SELECT CHANGE_TRACKING_MIN_VALID_VERSION(OBJECT_ID(?))", Long.class, table);
+    }
+}
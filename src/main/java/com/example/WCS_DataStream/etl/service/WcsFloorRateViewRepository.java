@@ -1,7 +1,10 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.model.view.FloorRateViewRow;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -18,20 +21,45 @@ public class WcsFloorRateViewRepository {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
     }
 
+    private static final String FETCH_ALL_SQL = """
+        SELECT ZONE_CD, FLOOR, RATE, QTY
+        FROM dbo.FLOOR_RATE_VIEW WITH (READPAST)
+    """;
+
     public List<FloorRateViewRow> fetchAll() {
-        String sql = """
-            SELECT ZONE_CD, FLOOR, RATE, QTY
-            FROM dbo.FLOOR_RATE_VIEW WITH (READPAST)
-        """;
-        return wcsJdbcTemplate.query(sql, this::mapRow);
+        return wcsJdbcTemplate.query(FETCH_ALL_SQL, new Mapper());
+    }
+
+    /**
+     * fetchAll 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<FloorRateViewRow> fetchAllQuery() {
+        return new WcsBatchQuery<>("floor_rate_view", FETCH_ALL_SQL, new Mapper());
     }
 
-    private FloorRateViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
-        String zoneCd = rs.getString("ZONE_CD");
-        String floor = rs.getString("FLOOR");
-        BigDecimal rate = rs.getBigDecimal("RATE");
-        BigDecimal qty = rs.getBigDecimal("QTY");
-        return new FloorRateViewRow(zoneCd, floor, rate, qty);
+    static final class Mapper implements RowMapper<FloorRateViewRow> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public FloorRateViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            String zoneCd = rs.getString(c.zoneCd);
+            String floor = rs.getString(c.floor);
+            BigDecimal rate = rs.getBigDecimal(c.rate);
+            BigDecimal qty = rs.getBigDecimal(c.qty);
+            return new FloorRateViewRow(zoneCd, floor, rate, qty);
+        }
+
+        private static final class Columns {
+            final int zoneCd, floor, rate, qty;
+
+            Columns(ResultSet rs) throws SQLException {
+                zoneCd = rs.findColumn("ZONE_CD");
+                floor = rs.findColumn("FLOOR");
+                rate = rs.findColumn("RATE");
+                qty = rs.findColumn("QTY");
+            }
+        }
     }
 }
 
@@ -1,7 +1,10 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
 import com.example.WCS_DataStream.etl.model.view.McStaMstViewRow;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
 import java.sql.ResultSet;
@@ -17,21 +20,47 @@ public class WcsMcStaMstViewRepository {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
     }
 
+    private static final String FETCH_ALL_SQL = """
+        SELECT MC_TYP, MC_NO, MC_AREA_TYP, MC_NM, ERROR_CODE
+        FROM dbo.MC_STA_MST_VIEW WITH (READPAST)
+    """;
+
     public List<McStaMstViewRow> fetchAll() {
-        String sql = """
-            SELECT MC_TYP, MC_NO, MC_AREA_TYP, MC_NM, ERROR_CODE
-            FROM dbo.MC_STA_MST_VIEW WITH (READPAST)
-        """;
-        return wcsJdbcTemplate.query(sql, this::mapRow);
+        return wcsJdbcTemplate.query(FETCH_ALL_SQL, new Mapper());
+    }
+
+    /**
+     * fetchAll 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<McStaMstViewRow> fetchAllQuery() {
+        return new WcsBatchQuery<>("mc_sta_mst_view", FETCH_ALL_SQL, new Mapper());
     }
 
-    private McStaMstViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
-        String mcTyp = rs.getString("MC_TYP");
-        String mcNo = rs.getString("MC_NO");
-        String mcAreaTyp = rs.getString("MC_AREA_TYP");
-        String mcNm = rs.getString("MC_NM");
-        String errorCode = rs.getString("ERROR_CODE");
-        return new McStaMstViewRow(mcTyp, mcNo, mcAreaTyp, mcNm, errorCode);
+    static final class Mapper implements RowMapper<McStaMstViewRow> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public McStaMstViewRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            String mcTyp = rs.getString(c.mcTyp);
+            String mcNo = rs.getString(c.mcNo);
+            String mcAreaTyp = rs.getString(c.mcAreaTyp);
+            String mcNm = rs.getString(c.mcNm);
+            String errorCode = rs.getString(c.errorCode);
+            return new McStaMstViewRow(mcTyp, mcNo, mcAreaTyp, mcNm, errorCode);
+        }
+
+        private static final class Columns {
+            final int mcTyp, mcNo, mcAreaTyp, mcNm, errorCode;
+
+            Columns(ResultSet rs) throws SQLException {
+                mcTyp = rs.findColumn("MC_TYP");
+                mcNo = rs.findColumn("MC_NO");
+                mcAreaTyp = rs.findColumn("MC_AREA_TYP");
+                mcNm = rs.findColumn("MC_NM");
+                errorCode = rs.findColumn("ERROR_CODE");
+            }
+        }
     }
 }
 
@@ -1,60 +1,201 @@
 package com.example.WCS_DataStream.etl.service;
 
+import com.example.WCS_DataStream.etl.common.ChangeTrackingPage;
+import com.example.WCS_DataStream.etl.common.ColumnOrdinals;
+import com.example.WCS_DataStream.etl.common.KeysetRange;
+import com.example.WCS_DataStream.etl.common.WcsBatchQuery;
+import com.example.WCS_DataStream.etl.common.WcsKeysetQuery;
+import com.example.WCS_DataStream.etl.config.ETLConfig;
 import com.example.WCS_DataStream.etl.model.vendor.mushiny.MushinyAgvInfoRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class WcsMushinyAgvRepository {
 
     private final JdbcTemplate wcsJdbcTemplate;
+    private final ETLConfig.ExtractionMode extractionMode;
 
-    public WcsMushinyAgvRepository(JdbcTemplate wcsJdbcTemplate) {
+    public WcsMushinyAgvRepository(JdbcTemplate wcsJdbcTemplate,
+            @Value("${etl.extraction.mushinyAgv:TIMESTAMP}") ETLConfig.ExtractionMode extractionMode) {
         this.wcsJdbcTemplate = wcsJdbcTemplate;
+        this.extractionMode = extractionMode;
     }
 
     public List<MushinyAgvInfoRecord> fetchIncremental(Timestamp lastTs, String lastUuid, int limit) {
-        String sql = """
+        return wcsJdbcTemplate.query(incrementalSql(), ps -> {
+            ps.setInt(1, limit);
+            ps.setTimestamp(2, lastTs);
+            ps.setTimestamp(3, lastTs);
+            ps.setString(4, lastUuid == null ? "" : lastUuid);
+        }, new Mapper());
+    }
+
+    /**
+     * fetchIncremental 과 같은 조회를 다중 결과 집합 배치(WcsBatchExtractor)에 넣을 형태로 반환
+     */
+    public WcsBatchQuery<MushinyAgvInfoRecord> incrementalQuery(Timestamp lastTs, String lastUuid, int limit) {
+        return new WcsBatchQuery<>("mushinyagv", incrementalSql(), new Mapper(), limit, lastTs, lastTs, lastUuid == null ? "" : lastUuid);
+    }
+
+    /**
+     * fetchIncremental 과 같은 조회를 리스트로 모으지 않고 chunkSize 단위로 chunkSink 에 전달
+     *
+     * 전달한 청크는 다시 사용하지 않으며, fetchSize 만큼씩 드라이버에서 읽어 옵니다.
+     */
+    public void streamIncremental(Timestamp lastTs, String lastUuid, int limit, int fetchSize, int chunkSize,
+                                  Consumer<List<MushinyAgvInfoRecord>> chunkSink) {
+        Mapper mapper = new Mapper();
+        List<List<MushinyAgvInfoRecord>> holder = new ArrayList<>(1);
+        holder.add(new ArrayList<>(chunkSize));
+        wcsJdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(incrementalSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setInt(1, limit);
+            ps.setTimestamp(2, lastTs);
+            ps.setTimestamp(3, lastTs);
+            ps.setString(4, lastUuid == null ? "" : lastUuid);
+            return ps;
+        }, rs -> {
+            List<MushinyAgvInfoRecord> chunk = holder.get(0);
+            chunk.add(mapper.mapRow(rs, 0));
+            if (chunk.size() >= chunkSize) {
+                chunkSink.accept(chunk);
+                holder.set(0, new ArrayList<>(chunkSize));
+            }
+        });
+        if (!holder.get(0).isEmpty()) chunkSink.accept(holder.get(0));
+    }
+
+    private String incrementalSql() {
+        return """
             SELECT TOP (?)
               UUID, ROBOT_NO, ZONE_CODE, NODE_ID, DIRECTION_FRONT, POD_ID, POD_DIRECTION,
               STATUS, MANUAL, BATTERY, POS_X, POS_Y, HAS_POD, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID
             FROM cdc_test.dbo.MUSHINY_AGV_INFO WITH (READPAST)
-            WHERE (COALESCE(UPD_DT, INS_DT) > ?)
-               OR (COALESCE(UPD_DT, INS_DT) = ? AND UUID > ?)
-            ORDER BY COALESCE(UPD_DT, INS_DT) ASC, UUID ASC
-        """;
+        """ + WcsKeysetQuery.predicate(extractionMode);
+    }
+
+    /**
+     * 병렬 백필: 구간 상한까지 (lastTs, lastUuid) 다음 행부터 최대 limit 행 조회
+     *
+     * 백필 완료 시 구간 상한이 곧 증분 오프셋이 되므로 잠긴 행을 건너뛰지 않도록 READPAST 를 쓰지 않습니다.
+     */
+    public List<MushinyAgvInfoRecord> fetchRange(KeysetRange range, Timestamp lastTs, String lastUuid, int limit) {
+        String sql = """
+            SELECT TOP (?)
+              UUID, ROBOT_NO, ZONE_CODE, NODE_ID, DIRECTION_FRONT, POD_ID, POD_DIRECTION,
+              STATUS, MANUAL, BATTERY, POS_X, POS_Y, HAS_POD, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID
+            FROM cdc_test.dbo.MUSHINY_AGV_INFO
+        """ + WcsKeysetQuery.rangePredicate(extractionMode);
         return wcsJdbcTemplate.query(sql, ps -> {
             ps.setInt(1, limit);
             ps.setTimestamp(2, lastTs);
             ps.setTimestamp(3, lastTs);
             ps.setString(4, lastUuid == null ? "" : lastUuid);
-        }, this::mapRow);
-    }
-
-    private MushinyAgvInfoRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
-        MushinyAgvInfoRecord r = new MushinyAgvInfoRecord();
-        r.setUuid(rs.getString("UUID"));
-        r.setRobotNo(rs.getString("ROBOT_NO"));
-        r.setZoneCode(rs.getString("ZONE_CODE"));
-        r.setNodeId(rs.getString("NODE_ID"));
-        r.setDirectionFront(rs.getString("DIRECTION_FRONT"));
-        r.setPodId(rs.getString("POD_ID"));
-        r.setPodDirection(rs.getString("POD_DIRECTION"));
-        r.setStatus(rs.getObject("STATUS") == null ? null : rs.getInt("STATUS"));
-        r.setManual(rs.getString("MANUAL"));
-        r.setBattery(rs.getBigDecimal("BATTERY"));
-        r.setPosX(rs.getBigDecimal("POS_X"));
-        r.setPosY(rs.getBigDecimal("POS_Y"));
-        r.setHasPod(rs.getString("HAS_POD"));
-        r.setInsDt(rs.getTimestamp("INS_DT"));
-        r.setInsUserId(rs.getString("INS_USER_ID"));
-        r.setUpdDt(rs.getTimestamp("UPD_DT"));
-        r.setUpdUserId(rs.getString("UPD_USER_ID"));
-        return r;
+            ps.setTimestamp(5, range.getHiTs());
+            ps.setTimestamp(6, range.getHiTs());
+            ps.setString(7, range.getHiUuid());
+        }, new Mapper());
+    }
+
+    public ETLConfig.ExtractionMode getExtractionMode() {
+        return extractionMode;
+    }
+
+    /**
+     * CHANGE_TRACKING: syncVersion 이후 변경된 행을 (버전, UUID) 순으로 조회
+     *
+     * 같은 버전의 나머지 행(lastUuid 이후)부터 이어 읽기 위해 syncVersion - 1 기준으로 CHANGETABLE 을 조회합니다.
+     * 변경 버전 순서를 건너뛰지 않도록 READPAST 를 쓰지 않으며, 삭제된 행은 조인에서 제외됩니다.
+     */
+    public ChangeTrackingPage<MushinyAgvInfoRecord> fetchChanges(long syncVersion, String lastUuid, int limit) {
+        String sql = """
+            SELECT TOP (?)
+              ct.SYS_CHANGE_VERSION AS CT_VERSION,
+              t.UUID, t.ROBOT_NO, t.ZONE_CODE, t.NODE_ID, t.DIRECTION_FRONT, t.POD_ID, t.POD_DIRECTION,
+              t.STATUS, t.MANUAL, t.BATTERY, t.POS_X, t.POS_Y, t.HAS_POD, t.INS_DT, t.INS_USER_ID, t.UPD_DT, t.UPD_USER_ID
+            FROM CHANGETABLE(CHANGES cdc_test.dbo.MUSHINY_AGV_INFO, ?) AS ct
+            JOIN cdc_test.dbo.MUSHINY_AGV_INFO t ON t.UUID = ct.UUID
+            WHERE ct.SYS_CHANGE_VERSION > ?
+               OR (ct.SYS_CHANGE_VERSION = ? AND ct.UUID > ?)
+            ORDER BY ct.SYS_CHANGE_VERSION ASC, ct.UUID ASC
+        """;
+        ChangeTrackingPage<MushinyAgvInfoRecord> page = new ChangeTrackingPage<>();
+        Mapper mapper = new Mapper();
+        wcsJdbcTemplate.query(sql, ps -> {
+            ps.setInt(1, limit);
+            ps.setLong(2, syncVersion - 1);
+            ps.setLong(3, syncVersion);
+            ps.setLong(4, syncVersion);
+            ps.setString(5, lastUuid == null ? "" : lastUuid);
+        }, rs -> {
+            MushinyAgvInfoRecord r = mapper.mapRow(rs, 0);
+            page.add(r, rs.getLong("CT_VERSION"), r.getUuid());
+        });
+        return page;
+    }
+
+    static final class Mapper implements RowMapper<MushinyAgvInfoRecord> {
+        private final ColumnOrdinals<Columns> columns = new ColumnOrdinals<>(Columns::new);
+
+        @Override
+        public MushinyAgvInfoRecord mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Columns c = columns.of(rs);
+            MushinyAgvInfoRecord r = new MushinyAgvInfoRecord();
+            r.setUuid(rs.getString(c.uuid));
+            r.setRobotNo(rs.getString(c.robotNo));
+            r.setZoneCode(rs.getString(c.zoneCode));
+            r.setNodeId(rs.getString(c.nodeId));
+            r.setDirectionFront(rs.getString(c.directionFront));
+            r.setPodId(rs.getString(c.podId));
+            r.setPodDirection(rs.getString(c.podDirection));
+            r.setStatus(ColumnOrdinals.getInteger(rs, c.status));
+            r.setManual(rs.getString(c.manual));
+            r.setBattery(rs.getBigDecimal(c.battery));
+            r.setPosX(rs.getBigDecimal(c.posX));
+            r.setPosY(rs.getBigDecimal(c.posY));
+            r.setHasPod(rs.getString(c.hasPod));
+            r.setInsDt(rs.getTimestamp(c.insDt));
+            r.setInsUserId(rs.getString(c.insUserId));
+            r.setUpdDt(rs.getTimestamp(c.updDt));
+            r.setUpdUserId(rs.getString(c.updUserId));
+            return r;
+        }
+
+        private static final class Columns {
+            final int uuid, robotNo, zoneCode, nodeId, directionFront, podId, podDirection, status, manual,
+                    battery, posX, posY, hasPod, insDt, insUserId, updDt, updUserId;
+
+            Columns(ResultSet rs) throws SQLException {
+                uuid = rs.findColumn("UUID");
+                robotNo = rs.findColumn("ROBOT_NO");
+                zoneCode = rs.findColumn("ZONE_CODE");
+                nodeId = rs.findColumn("NODE_ID");
+                directionFront = rs.findColumn("DIRECTION_FRONT");
+                podId = rs.findColumn("POD_ID");
+                podDirection = rs.findColumn("POD_DIRECTION");
+                status = rs.findColumn("STATUS");
+                manual = rs.findColumn("MANUAL");
+                battery = rs.findColumn("BATTERY");
+                posX = rs.findColumn("POS_X");
+                posY = rs.findColumn("POS_Y");
+                hasPod = rs.findColumn("HAS_POD");
+                insDt = rs.findColumn("INS_DT");
+                insUserId = rs.findColumn("INS_USER_ID");
+                updDt = rs.findColumn("UPD_DT");
+                updUserId = rs.findColumn("UPD_USER_ID");
+            }
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,148 @@
+-- WCS 증분 추출 조건 벤치마크 (TIMESTAMP vs CHANGE_COLUMN)
+--
+-- ANT_ROBOT_INFO 와 같은 구조의 벤치 테이블을 10만 / 100만 / 500만 건으로 채우고,
+-- 운영 폴링과 같은 조건(마지막 오프셋 이후 TOP 1000, 꼬리 구간)으로 두 조회를 실행해
+-- 논리 읽기(logical reads)와 경과 시간을 #bench_result 에 기록합니다.
+--
+-- 기대 결과: TIMESTAMP(COALESCE 식)는 테이블 크기에 비례해 읽기가 늘고,
+--           CHANGE_COLUMN(CHG_TS, UUID 인덱스 seek)은 크기와 무관하게 페이지 크기 수준으로 일정합니다.
+-- 조회 열은 운영 조회처럼 행 전체이며, CHANGE_COLUMN_LOOKUP 은 INCLUDE 없는 인덱스로 같은 조회를 실행해
+-- 커버링 인덱스와 키 조회(또는 클러스터 스캔 대체) 비용 차이를 함께 기록합니다.
+-- 운영 테이블에는 영향을 주지 않으며 마지막에 벤치 테이블을 삭제합니다.
+
+USE cdc_test;
+GO
+
+SET NOCOUNT ON;
+GO
+
+IF OBJECT_ID('tempdb..#bench_result') IS NOT NULL DROP TABLE #bench_result;
+CREATE TABLE #bench_result (
+    table_rows     INT           NOT NULL,
+    mode           NVARCHAR(20)  NOT NULL,
+    rows_returned  INT           NOT NULL,
+    logical_reads  BIGINT        NOT NULL,
+    elapsed_ms     INT           NOT NULL
+);
+GO
+
+IF OBJECT_ID('dbo.ANT_ROBOT_INFO_BENCH','U') IS NOT NULL DROP TABLE dbo.ANT_ROBOT_INFO_BENCH;
+CREATE TABLE dbo.ANT_ROBOT_INFO_BENCH (
+    ROBOT_NO       NVARCHAR(30)  NOT NULL,
+    STATUS         NUMERIC(10,0) NULL,
+    BATTERY        DECIMAL(13,4) NULL,
+    POS_X          DECIMAL(13,4) NULL,
+    POS_Y          DECIMAL(13,4) NULL,
+    REPORT_TIME    NVARCHAR(100) NULL,
+    INS_DT         DATETIME2(3)  NOT NULL,
+    UPD_DT         DATETIME2(3)  NOT NULL,
+    UUID           NVARCHAR(100) NOT NULL,
+    CHG_TS         AS COALESCE(UPD_DT, INS_DT) PERSISTED,
+    CONSTRAINT PK_ANT_ROBOT_INFO_BENCH PRIMARY KEY CLUSTERED (UUID)
+);
+-- wcs_schema.sql 과 같은 커버링 인덱스, 비교용 INCLUDE 없는 인덱스
+CREATE INDEX IX_ANT_ROBOT_INFO_BENCH_CHG_TS ON dbo.ANT_ROBOT_INFO_BENCH(CHG_TS, UUID)
+    INCLUDE (ROBOT_NO, STATUS, BATTERY, POS_X, POS_Y, REPORT_TIME, INS_DT, UPD_DT);
+CREATE INDEX IX_ANT_ROBOT_INFO_BENCH_CHG_TS_NOINC ON dbo.ANT_ROBOT_INFO_BENCH(CHG_TS, UUID);
+GO
+
+DECLARE @sizes TABLE (n INT PRIMARY KEY);
+INSERT INTO @sizes VALUES (100000), (1000000), (5000000);
+
+DECLARE @target INT, @current INT, @pageSize INT = 1000;
+DECLARE @lastTs DATETIME2(3), @lastUuid NVARCHAR(100);
+DECLARE @reads0 BIGINT, @t0 DATETIME2(7), @rows INT;
+DECLARE @page TABLE (UUID NVARCHAR(100), ROBOT_NO NVARCHAR(30), STATUS NUMERIC(10,0), BATTERY DECIMAL(13,4),
+                     POS_X DECIMAL(13,4), POS_Y DECIMAL(13,4), REPORT_TIME NVARCHAR(100), INS_DT DATETIME2(3), UPD_DT DATETIME2(3));
+
+DECLARE size_cursor CURSOR LOCAL FAST_FORWARD FOR SELECT n FROM @sizes ORDER BY n;
+OPEN size_cursor;
+FETCH NEXT FROM size_cursor INTO @target;
+WHILE @@FETCH_STATUS = 0
+BEGIN
+    -- 목표 건수까지 채우기 (1건당 1초 간격 변경 시각, UUID 는 순번 기반)
+    SELECT @current = COUNT(*) FROM dbo.ANT_ROBOT_INFO_BENCH;
+    ;WITH tally AS (
+        SELECT TOP (@target - @current)
+               @current + ROW_NUMBER() OVER (ORDER BY (SELECT NULL)) AS i
+        FROM sys.all_objects a CROSS JOIN sys.all_objects b CROSS JOIN sys.all_objects c
+    )
+    INSERT INTO dbo.ANT_ROBOT_INFO_BENCH (ROBOT_NO, STATUS, BATTERY, POS_X, POS_Y, REPORT_TIME, INS_DT, UPD_DT, UUID)
+    SELECT CONCAT('AR_', i % 500), i % 5, 50 + (i % 50), i % 1000, (i * 7) % 1000, CAST(i AS NVARCHAR(100)),
+           DATEADD(SECOND, CAST(i AS INT), CAST('2024-01-01' AS DATETIME2(3))),
+           DATEADD(SECOND, CAST(i AS INT), CAST('2024-01-01' AS DATETIME2(3))),
+           CONCAT('bench-', RIGHT(CONCAT('0000000000', i), 10))
+    FROM tally;
+    UPDATE STATISTICS dbo.ANT_ROBOT_INFO_BENCH WITH FULLSCAN;
+
+    -- 폴링 정상 상태: 꼬리에서 페이지 크기만큼 뒤의 오프셋
+    SELECT @lastTs = CHG_TS, @lastUuid = UUID
+    FROM dbo.ANT_ROBOT_INFO_BENCH
+    ORDER BY CHG_TS DESC, UUID DESC
+    OFFSET @pageSize ROWS FETCH NEXT 1 ROWS ONLY;
+
+    -- TIMESTAMP: COALESCE(UPD_DT, INS_DT) 키셋 (기존 조회)
+    DELETE FROM @page;
+    CHECKPOINT; DBCC DROPCLEANBUFFERS WITH NO_INFOMSGS;
+    SELECT @reads0 = logical_reads FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+    SET @t0 = SYSDATETIME();
+    INSERT INTO @page
+    SELECT TOP (@pageSize) UUID, ROBOT_NO, STATUS, BATTERY, POS_X, POS_Y, REPORT_TIME, INS_DT, UPD_DT
+    FROM dbo.ANT_ROBOT_INFO_BENCH WITH (READPAST)
+    WHERE (COALESCE(UPD_DT, INS_DT) > @lastTs)
+       OR (COALESCE(UPD_DT, INS_DT) = @lastTs AND UUID > @lastUuid)
+    ORDER BY COALESCE(UPD_DT, INS_DT) ASC, UUID ASC
+    OPTION (RECOMPILE);
+    SET @rows = @@ROWCOUNT;
+    INSERT INTO #bench_result
+    SELECT @target, N'TIMESTAMP', @rows, logical_reads - @reads0, DATEDIFF(MILLISECOND, @t0, SYSDATETIME())
+    FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+
+    -- CHANGE_COLUMN: CHG_TS >= ? 범위 seek (etl.extraction.<domain>=CHANGE_COLUMN)
+    DELETE FROM @page;
+    CHECKPOINT; DBCC DROPCLEANBUFFERS WITH NO_INFOMSGS;
+    SELECT @reads0 = logical_reads FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+    SET @t0 = SYSDATETIME();
+    INSERT INTO @page
+    SELECT TOP (@pageSize) UUID, ROBOT_NO, STATUS, BATTERY, POS_X, POS_Y, REPORT_TIME, INS_DT, UPD_DT
+    FROM dbo.ANT_ROBOT_INFO_BENCH WITH (READPAST)
+    WHERE CHG_TS >= @lastTs
+      AND (CHG_TS > @lastTs OR UUID > @lastUuid)
+    ORDER BY CHG_TS ASC, UUID ASC
+    OPTION (RECOMPILE);
+    SET @rows = @@ROWCOUNT;
+    INSERT INTO #bench_result
+    SELECT @target, N'CHANGE_COLUMN', @rows, logical_reads - @reads0, DATEDIFF(MILLISECOND, @t0, SYSDATETIME())
+    FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+
+    -- CHANGE_COLUMN_LOOKUP: 같은 조회를 INCLUDE 없는 인덱스로 (행마다 클러스터 키 조회)
+    DELETE FROM @page;
+    CHECKPOINT; DBCC DROPCLEANBUFFERS WITH NO_INFOMSGS;
+    SELECT @reads0 = logical_reads FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+    SET @t0 = SYSDATETIME();
+    INSERT INTO @page
+    SELECT TOP (@pageSize) UUID, ROBOT_NO, STATUS, BATTERY, POS_X, POS_Y, REPORT_TIME, INS_DT, UPD_DT
+    FROM dbo.ANT_ROBOT_INFO_BENCH WITH (READPAST, INDEX(IX_ANT_ROBOT_INFO_BENCH_CHG_TS_NOINC))
+    WHERE CHG_TS >= @lastTs
+      AND (CHG_TS > @lastTs OR UUID > @lastUuid)
+    ORDER BY CHG_TS ASC, UUID ASC
+    OPTION (RECOMPILE);
+    SET @rows = @@ROWCOUNT;
+    INSERT INTO #bench_result
+    SELECT @target, N'CHANGE_COLUMN_LOOKUP', @rows, logical_reads - @reads0, DATEDIFF(MILLISECOND, @t0, SYSDATETIME())
+    FROM sys.dm_exec_requests WHERE session_id = @@SPID;
+
+    FETCH NEXT FROM size_cursor INTO @target;
+END
+CLOSE size_cursor;
+DEALLOCATE size_cursor;
+GO
+
+SELECT table_rows, mode, rows_returned, logical_reads, elapsed_ms
+FROM #bench_result
+ORDER BY mode, table_rows;
+GO
+
+DROP TABLE dbo.ANT_ROBOT_INFO_BENCH;
+DROP TABLE #bench_result;
+GO
@@ -0,0 +1,98 @@
+package com.example.WCS_DataStream.etl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ETLStatistics 롤링 윈도우 (10초 버킷 90개)
+ *
+ * 시각은 고정 시계로 움직이며, T0 는 10초 버킷 경계에 맞춘 값입니다.
+ */
+class ETLStatisticsTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    // 로그 히스토그램 구간 폭 (2배당 4구간)
+    private static final double BIN_RATIO = Math.pow(2.0, 0.25);
+
+    private long now = T0;
+    private final ETLStatistics stats = new ETLStatistics(() -> now);
+
+    @Test
+    void bucketReusedAfterFifteenMinutesStartsFromZero() {
+        stats.recordExecution(500, 500, 1000);
+
+        // 90 버킷 뒤 같은 슬롯: 이전 주기의 레코드/지연은 초기화되어야 함
+        now = T0 + 900_000L;
+        stats.recordExecution(7, 7, 2);
+
+        assertEquals(7.0 / 900, stats.getRecordsPerSecond(ETLStatistics.Window.FIFTEEN_MINUTES), 1e-9);
+        assertEquals(2.0, stats.getLatencyPercentileMs(ETLStatistics.Window.FIFTEEN_MINUTES, 0.99), 1e-9);
+    }
+
+    @Test
+    void bucketsOlderThanTheWindowAreExcludedBeforeTheyAreReset() {
+        stats.recordExecution(600, 600, 10);
+
+        now = T0 + 50_000L;
+        assertEquals(600.0 / 50, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+
+        // 1분 윈도우는 현재 버킷 포함 6개: T0 버킷은 빠지고 5분 윈도우에는 남음
+        now = T0 + 60_000L;
+        assertEquals(0.0, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+        assertEquals(0.0, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.5), 1e-9);
+        assertEquals(600.0 / 60, stats.getRecordsPerSecond(ETLStatistics.Window.FIVE_MINUTES), 1e-9);
+        assertTrue(stats.getLatencyPercentileMs(ETLStatistics.Window.FIVE_MINUTES, 0.5) >= 10.0);
+    }
+
+    @Test
+    void percentilesOverKnownLatencies() {
+        for (long latencyMs = 1; latencyMs <= 100; latencyMs++) {
+            stats.recordExecution(1, 1, latencyMs);
+        }
+
+        // 구간 상한을 돌려주므로 실제 값 이상, 한 구간 폭(약 19%) 이내
+        assertBin(50, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.50));
+        assertBin(95, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.95));
+        assertBin(99, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.99));
+        assertBin(100, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 1.0));
+    }
+
+    @Test
+    void percentileIsZeroWithoutExecutionsAndOneForZeroLatency() {
+        assertEquals(0.0, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.95), 1e-9);
+
+        stats.recordExecution(1, 1, 0);
+        assertEquals(1.0, stats.getLatencyPercentileMs(ETLStatistics.Window.ONE_MINUTE, 0.95), 1e-9);
+    }
+
+    @Test
+    void recordsPerSecondUsesElapsedTimeDuringTheFirstWindow() {
+        // 기동 후 1초 미만이면 1초로 나눔
+        now = T0 + 500L;
+        stats.recordExecution(100, 100, 5);
+        assertEquals(100.0, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+
+        now = T0 + 10_000L;
+        assertEquals(10.0, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+        assertEquals(10.0, stats.getRecordsPerSecond(ETLStatistics.Window.FIFTEEN_MINUTES), 1e-9);
+
+        now = T0 + 40_000L;
+        assertEquals(2.5, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+
+        now = T0 + 59_000L;
+        stats.recordExecution(20, 20, 5);
+        assertEquals(120.0 / 59, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+
+        // 1분 윈도우는 기동 1분 후부터 윈도우 길이로 나눔, 5분 윈도우는 아직 경과 시간 기준
+        now = T0 + 65_000L;
+        assertEquals(20.0 / 60, stats.getRecordsPerSecond(ETLStatistics.Window.ONE_MINUTE), 1e-9);
+        assertEquals(120.0 / 65, stats.getRecordsPerSecond(ETLStatistics.Window.FIVE_MINUTES), 1e-9);
+    }
+
+    private static void assertBin(double expectedMs, double actualMs) {
+        assertTrue(actualMs >= expectedMs && actualMs <= expectedMs * BIN_RATIO,
+                "기대 " + expectedMs + "ms 구간, 실제 " + actualMs + "ms");
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.WCS_DataStream.etl.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * KeysetRange.split 경계 검증
+ *
+ * contains 는 WcsKeysetQuery 의 *_RANGE 조건((lo 초과) AND (hi 이하), (시각, UUID) 사전순)을 그대로 옮긴 것이며,
+ * 모든 행이 정확히 한 구간에만 속하는지(겹침/누락 없음)를 확인합니다.
+ */
+class KeysetRangeTest {
+
+    private static final long BASE = Timestamp.valueOf("2024-01-01 00:00:00").getTime();
+
+    @Test
+    void rowsOnInternalBoundaryBelongToTheLaterRangeOnly() {
+        List<KeysetRange> ranges = KeysetRange.split(ts(0), ts(1000), "u-9", 4);
+        assertEquals(4, ranges.size());
+
+        Timestamp boundary = ranges.get(0).getHiTs();
+        assertEquals(ts(250), boundary);
+        // 경계 시각 직전 행은 앞 구간, 경계 시각의 행은 UUID 와 무관하게 다음 구간
+        assertEquals(0, rangeOf(ranges, ts(249), "u-z"));
+        assertEquals(1, rangeOf(ranges, boundary, "u-0"));
+        assertEquals(1, rangeOf(ranges, boundary, "u-z"));
+        // 각 내부 경계는 앞 구간의 상한이자 다음 구간의 하한
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).getHiTs(), ranges.get(i).getLoTs());
+            assertEquals("", ranges.get(i).getLoUuid());
+        }
+    }
+
+    @Test
+    void firstAndLastRowsAreCoveredAndRowsAfterTheFixedUpperBoundAreNot() {
+        List<KeysetRange> ranges = KeysetRange.split(ts(0), ts(1000), "u-5", 4);
+
+        assertEquals(0, rangeOf(ranges, ts(0), "u-0"));
+        assertEquals(3, rangeOf(ranges, ts(1000), "u-1"));
+        assertEquals(3, rangeOf(ranges, ts(1000), "u-5"));
+        // 백필 시작 뒤 같은 시각에 들어온 더 큰 UUID 와 이후 시각의 행은 증분 처리 몫
+        assertEquals(-1, rangeOf(ranges, ts(1000), "u-6"));
+        assertEquals(-1, rangeOf(ranges, ts(1001), "u-0"));
+
+        KeysetRange last = ranges.get(ranges.size() - 1);
+        assertEquals(ts(1000), last.upperOffset().lastTs);
+        assertEquals("u-5", last.upperOffset().lastUuid);
+    }
+
+    @Test
+    void everyRowFallsInExactlyOneRange() {
+        List<KeysetRange> ranges = KeysetRange.split(ts(0), ts(997), "u-2", 7);
+        for (long ms = 0; ms <= 997; ms++) {
+            for (String uuid : new String[] { "u-0", "u-1", "u-2" }) {
+                assertTrue(rangeOf(ranges, ts(ms), uuid) >= 0, "누락: " + ms + "/" + uuid);
+            }
+        }
+    }
+
+    @Test
+    void spanNarrowerThanPartsYieldsOneRangePerMillisecond() {
+        List<KeysetRange> ranges = KeysetRange.split(ts(0), ts(3), "u-1", 8);
+
+        assertEquals(3, ranges.size());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertTrue(ranges.get(i).getLoTs().after(ranges.get(i - 1).getLoTs()), "빈 구간: " + ranges);
+        }
+        for (long ms = 0; ms <= 3; ms++) {
+            assertTrue(rangeOf(ranges, ts(ms), "u-0") >= 0, "누락: " + ms);
+        }
+    }
+
+    @Test
+    void singleTimestampYieldsOneRangeBoundedByMaxUuid() {
+        List<KeysetRange> ranges = KeysetRange.split(ts(500), ts(500), "u-3", 4);
+
+        assertEquals(1, ranges.size());
+        KeysetRange only = ranges.get(0);
+        assertEquals(ts(500), only.getHiTs());
+        assertEquals("u-3", only.getHiUuid());
+        assertTrue(contains(only, ts(500), "u-0"));
+        assertTrue(contains(only, ts(500), "u-3"));
+        assertFalse(contains(only, ts(500), "u-4"));
+    }
+
+    /**
+     * 행이 속한 구간 번호 (없으면 -1, 둘 이상이면 실패)
+     */
+    private static int rangeOf(List<KeysetRange> ranges, Timestamp ts, String uuid) {
+        int found = -1;
+        for (int i = 0; i < ranges.size(); i++) {
+            if (!contains(ranges.get(i), ts, uuid)) continue;
+            assertEquals(-1, found, "구간 겹침: " + ts + "/" + uuid);
+            found = i;
+        }
+        return found;
+    }
+
+    /**
+     * WcsKeysetQuery *_RANGE: ((ts > lo) OR (ts = lo AND uuid > loUuid)) AND ((ts < hi) OR (ts = hi AND uuid <= hiUuid))
+     */
+    static boolean contains(KeysetRange range, Timestamp ts, String uuid) {
+        boolean afterLo = ts.after(range.getLoTs()) || (ts.equals(range.getLoTs()) && uuid.compareTo(range.getLoUuid()) > 0);
+        boolean atOrBeforeHi = ts.before(range.getHiTs()) || (ts.equals(range.getHiTs()) && uuid.compareTo(range.getHiUuid()) <= 0);
+        return afterLo && atOrBeforeHi;
+    }
+
+    static Timestamp ts(long offsetMs) {
+        return new Timestamp(BASE + offsetMs);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.WCS_DataStream.etl.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.example.WCS_DataStream.etl.common.KeysetRangeTest.contains;
+import static com.example.WCS_DataStream.etl.common.KeysetRangeTest.ts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ParallelBackfillRunner 적재 범위와 실패 전파
+ *
+ * WCS 대신 (시각, UUID) 순으로 정렬된 메모리 행 목록을 구간 조건(KeysetRangeTest.contains)으로 조회합니다.
+ */
+class ParallelBackfillRunnerTest {
+
+    private record Row(Timestamp ts, String uuid) {
+    }
+
+    @Test
+    void loadsEveryRowExactlyOnceAcrossRangesAndPages() {
+        List<Row> rows = rows(1000);
+        Queue<Row> loaded = new ConcurrentLinkedQueue<>();
+        ParallelBackfillRunner<Row> runner = runner(4, 7, source(rows, new ConcurrentLinkedQueue<>(), null), page -> {
+            loaded.addAll(page);
+            return page.size();
+        });
+
+        ParallelBackfillRunner.Result result = runner.run(KeysetRange.split(ts(0), last(rows).ts(), last(rows).uuid(), 8));
+
+        assertEquals(1000L, result.extracted);
+        assertEquals(1000L, result.written);
+        assertEquals(1000, loaded.size());
+        assertEquals(1000, new HashSet<>(loaded).size());
+    }
+
+    @Test
+    void sourceFailureIsRethrownAndRemainingRangesAreNotRead() {
+        List<Row> rows = rows(400);
+        List<KeysetRange> ranges = KeysetRange.split(ts(0), last(rows).ts(), last(rows).uuid(), 4);
+        Queue<KeysetRange> fetched = new ConcurrentLinkedQueue<>();
+        IllegalStateException boom = new IllegalStateException("WCS 조회 실패");
+        // 작업자 1개: 구간을 순서대로 처리하므로 두 번째 구간에서 실패하면 이후 구간은 조회되지 않아야 함
+        ParallelBackfillRunner<Row> runner = runner(1, 50, source(rows, fetched, range -> {
+            if (range == ranges.get(1)) throw boom;
+        }), List::size);
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> runner.run(ranges));
+
+        assertSame(boom, thrown);
+        assertEquals(List.of(ranges.get(0), ranges.get(1)), new ArrayList<>(new LinkedHashSet<>(fetched)));
+    }
+
+    @Test
+    void sinkFailureIsRethrownFromParallelWorkers() {
+        List<Row> rows = rows(1000);
+        IllegalStateException boom = new IllegalStateException("적재 실패");
+        ParallelBackfillRunner<Row> runner = runner(4, 10, source(rows, new ConcurrentLinkedQueue<>(), null), page -> {
+            if (page.contains(rows.get(500))) throw boom;
+            return page.size();
+        });
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> runner.run(KeysetRange.split(ts(0), last(rows).ts(), last(rows).uuid(), 8)));
+
+        assertSame(boom, thrown);
+    }
+
+    @FunctionalInterface
+    private interface RangeHook {
+        void onFetch(KeysetRange range);
+    }
+
+    private static ParallelBackfillRunner<Row> runner(int parallelism, int pageSize, ParallelBackfillRunner.RangeSource<Row> source,
+                                                      ParallelBackfillRunner.PageSink<Row> sink) {
+        return new ParallelBackfillRunner<>("test", parallelism, pageSize, source, sink, Row::ts, Row::uuid);
+    }
+
+    /**
+     * 구간 안에서 (lastTs, lastUuid) 다음 행부터 limit 행 (WcsBackfillRepository.fetchRange 와 같은 키셋 순서)
+     */
+    private static ParallelBackfillRunner.RangeSource<Row> source(List<Row> rows, Queue<KeysetRange> fetched, RangeHook hook) {
+        return (range, lastTs, lastUuid, limit) -> {
+            fetched.add(range);
+            if (hook != null) hook.onFetch(range);
+            KeysetRange rest = new KeysetRange(lastTs, lastUuid, range.getHiTs(), range.getHiUuid());
+            List<Row> page = new ArrayList<>();
+            for (Row r : rows) {
+                if (page.size() >= limit) break;
+                if (contains(rest, r.ts(), r.uuid())) page.add(r);
+            }
+            return page;
+        };
+    }
+
+    /**
+     * 1ms 에 두 행씩, (시각, UUID) 오름차순
+     */
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(ts(i / 2), String.format("r-%05d", i)));
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static Row last(List<Row> rows) {
+        return rows.get(rows.size() - 1);
+    }
+}
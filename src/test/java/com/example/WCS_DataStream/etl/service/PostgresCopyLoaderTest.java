@@ -0,0 +1,106 @@
+package com.example.WCS_DataStream.etl.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * PostgresCopyLoader.appendCsvLine (COPY ... WITH (FORMAT csv) 인코딩)
+ *
+ * PostgreSQL CSV 규칙: 인용되지 않은 빈 필드는 NULL, 인용된 빈 문자열 "" 은 빈 문자열,
+ * 인용 안의 " 는 "" 로 이스케이프하고 쉼표/줄바꿈은 그대로 둡니다.
+ */
+class PostgresCopyLoaderTest {
+
+    @Test
+    void nullIsAnEmptyFieldAndEmptyStringIsQuoted() {
+        assertEquals(",\"\",\"a\"\n", encode(null, "", "a"));
+        assertEquals(Arrays.asList(null, "", "a"), parse(encode(null, "", "a")));
+    }
+
+    @Test
+    void embeddedQuotesCommasAndNewlinesStayInsideOneField() {
+        String value = "he said \"hi\", then\nleft\r\n";
+        String line = encode(value, "x");
+
+        assertEquals("\"he said \"\"hi\"\", then\nleft\r\n\",\"x\"\n", line);
+        assertEquals(List.of(value, "x"), parse(line));
+    }
+
+    @Test
+    void bigDecimalIsWrittenAsPlainString() {
+        assertEquals("1000,0.00001230,-12.5\n",
+                encode(new BigDecimal("1E+3"), new BigDecimal("0.00001230"), new BigDecimal("-12.50").stripTrailingZeros()));
+    }
+
+    @Test
+    void numbersAndBooleansAreUnquotedAndOtherObjectsAreQuotedText() {
+        assertEquals("42,7,1.5,true,\"ROBOT_1\"\n", encode(42, 7L, 1.5d, Boolean.TRUE, Kind.ROBOT_1));
+    }
+
+    @Test
+    void timestampCarriesTheLocalWallClockAndItsOffset() {
+        Timestamp ts = Timestamp.valueOf("2024-03-31 01:30:15.123");
+        String field = encode(ts).trim();
+
+        // timestamptz 는 오프셋으로 같은 순간, timestamp 는 오프셋을 무시하고 JDBC setTimestamp 와 같은 지역 시각
+        OffsetDateTime parsed = OffsetDateTime.parse(field);
+        assertEquals(ts.toInstant(), parsed.toInstant());
+        assertEquals(ts.toLocalDateTime(), parsed.toLocalDateTime());
+    }
+
+    @Test
+    void timestampKeepsSubMillisecondPrecision() {
+        Timestamp ts = Timestamp.valueOf("2024-01-01 00:00:00.123456");
+        assertEquals(ts.toInstant(), OffsetDateTime.parse(encode(ts).trim()).toInstant());
+    }
+
+    private enum Kind {
+        ROBOT_1
+    }
+
+    private static String encode(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        PostgresCopyLoader.appendCsvLine(sb, values);
+        return sb.toString();
+    }
+
+    /**
+     * PostgreSQL CSV 한 줄 해석 (인용 없는 빈 필드는 null)
+     */
+    private static List<String> parse(String line) {
+        assertEquals('\n', line.charAt(line.length() - 1));
+        List<String> fields = new ArrayList<>();
+        int i = 0;
+        int end = line.length() - 1;
+        while (true) {
+            if (i < end && line.charAt(i) == '"') {
+                StringBuilder field = new StringBuilder();
+                i++;
+                while (true) {
+                    char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (line.charAt(i) != '"') break;
+                        i++;
+                    }
+                    field.append(c);
+                }
+                fields.add(field.toString());
+            } else {
+                int next = line.indexOf(',', i);
+                int stop = next < 0 || next > end ? end : next;
+                fields.add(stop == i ? null : line.substring(i, stop));
+                i = stop;
+            }
+            if (i >= end) return fields;
+            assertEquals(',', line.charAt(i++));
+        }
+    }
+}
@@ -467,6 +467,105 @@ BEGIN
 END
 GO
 
+/* ========== 증분 추출용 변경 시각 열 (CHG_TS) ==========
+   - CHG_TS = COALESCE(UPD_DT, INS_DT) 를 PERSISTED 계산 열로 두고 (CHG_TS, UUID) 인덱스를 생성
+   - 증분 조회(etl.extraction.<domain>=CHANGE_COLUMN)가 CHG_TS >= ? 범위 seek + TOP(n) 으로 읽어
+     테이블 크기와 무관하게 페이지 크기만큼만 읽음 (COALESCE 식 조건은 전체 스캔)
+   - 인덱스는 Wcs*Repository 가 조회하는 열을 모두 INCLUDE 한 커버링 인덱스
+     (INCLUDE 가 없으면 행마다 클러스터 인덱스 키 조회가 붙고, 큰 페이지에서는 옵티마이저가 클러스터 스캔을 고름)
+     조회 열을 바꾸면 INCLUDE 목록도 함께 바꿀 것
+   - 이전 버전(INCLUDE 없음)으로 만든 인덱스는 DROP_EXISTING 으로 다시 만듦
+*/
+IF COL_LENGTH('dbo.ANT_ROBOT_INFO','CHG_TS') IS NULL
+    ALTER TABLE dbo.ANT_ROBOT_INFO ADD CHG_TS AS COALESCE(UPD_DT, INS_DT) PERSISTED;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ANT_ROBOT_INFO_CHG_TS' AND object_id = OBJECT_ID('dbo.ANT_ROBOT_INFO'))
+    CREATE INDEX IX_ANT_ROBOT_INFO_CHG_TS ON dbo.ANT_ROBOT_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, LOADERS, REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET, POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID);
+ELSE IF NOT EXISTS (SELECT 1 FROM sys.index_columns ic JOIN sys.indexes i ON i.object_id = ic.object_id AND i.index_id = ic.index_id
+                    WHERE i.name = 'IX_ANT_ROBOT_INFO_CHG_TS' AND i.object_id = OBJECT_ID('dbo.ANT_ROBOT_INFO') AND ic.is_included_column = 1)
+    CREATE INDEX IX_ANT_ROBOT_INFO_CHG_TS ON dbo.ANT_ROBOT_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, LOADERS, REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET, POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID)
+        WITH (DROP_EXISTING = ON);
+GO
+
+IF COL_LENGTH('dbo.ANT_POD_INFO','CHG_TS') IS NULL
+    ALTER TABLE dbo.ANT_POD_INFO ADD CHG_TS AS COALESCE(UPD_DT, INS_DT) PERSISTED;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ANT_POD_INFO_CHG_TS' AND object_id = OBJECT_ID('dbo.ANT_POD_INFO'))
+    CREATE INDEX IX_ANT_POD_INFO_CHG_TS ON dbo.ANT_POD_INFO(CHG_TS, UUID)
+        INCLUDE (POD_ID, POD_FACE, LOCATION, REPORT_TIME, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID);
+ELSE IF NOT EXISTS (SELECT 1 FROM sys.index_columns ic JOIN sys.indexes i ON i.object_id = ic.object_id AND i.index_id = ic.index_id
+                    WHERE i.name = 'IX_ANT_POD_INFO_CHG_TS' AND i.object_id = OBJECT_ID('dbo.ANT_POD_INFO') AND ic.is_included_column = 1)
+    CREATE INDEX IX_ANT_POD_INFO_CHG_TS ON dbo.ANT_POD_INFO(CHG_TS, UUID)
+        INCLUDE (POD_ID, POD_FACE, LOCATION, REPORT_TIME, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID)
+        WITH (DROP_EXISTING = ON);
+GO
+
+IF COL_LENGTH('dbo.ANT_FLYPICK_INFO','CHG_TS') IS NULL
+    ALTER TABLE dbo.ANT_FLYPICK_INFO ADD CHG_TS AS COALESCE(UPD_DT, INS_DT) PERSISTED;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_ANT_FLYPICK_INFO_CHG_TS' AND object_id = OBJECT_ID('dbo.ANT_FLYPICK_INFO'))
+    CREATE INDEX IX_ANT_FLYPICK_INFO_CHG_TS ON dbo.ANT_FLYPICK_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET, POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID);
+ELSE IF NOT EXISTS (SELECT 1 FROM sys.index_columns ic JOIN sys.indexes i ON i.object_id = ic.object_id AND i.index_id = ic.index_id
+                    WHERE i.name = 'IX_ANT_FLYPICK_INFO_CHG_TS' AND i.object_id = OBJECT_ID('dbo.ANT_FLYPICK_INFO') AND ic.is_included_column = 1)
+    CREATE INDEX IX_ANT_FLYPICK_INFO_CHG_TS ON dbo.ANT_FLYPICK_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ROBOT_TYPE, MAP_CODE, ZONE_CODE, STATUS, MANUAL, REPORT_TIME, BATTERY, NODE_ID, POS_X, POS_Y, SPEED, TASK_ID, NEXT_TARGET, POD_ID, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID)
+        WITH (DROP_EXISTING = ON);
+GO
+
+IF COL_LENGTH('dbo.MUSHINY_AGV_INFO','CHG_TS') IS NULL
+    ALTER TABLE dbo.MUSHINY_AGV_INFO ADD CHG_TS AS COALESCE(UPD_DT, INS_DT) PERSISTED;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_MUSHINY_AGV_INFO_CHG_TS' AND object_id = OBJECT_ID('dbo.MUSHINY_AGV_INFO'))
+    CREATE INDEX IX_MUSHINY_AGV_INFO_CHG_TS ON dbo.MUSHINY_AGV_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ZONE_CODE, NODE_ID, DIRECTION_FRONT, POD_ID, POD_DIRECTION, STATUS, MANUAL, BATTERY, POS_X, POS_Y, HAS_POD, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID);
+ELSE IF NOT EXISTS (SELECT 1 FROM sys.index_columns ic JOIN sys.indexes i ON i.object_id = ic.object_id AND i.index_id = ic.index_id
+                    WHERE i.name = 'IX_MUSHINY_AGV_INFO_CHG_TS' AND i.object_id = OBJECT_ID('dbo.MUSHINY_AGV_INFO') AND ic.is_included_column = 1)
+    CREATE INDEX IX_MUSHINY_AGV_INFO_CHG_TS ON dbo.MUSHINY_AGV_INFO(CHG_TS, UUID)
+        INCLUDE (ROBOT_NO, ZONE_CODE, NODE_ID, DIRECTION_FRONT, POD_ID, POD_DIRECTION, STATUS, MANUAL, BATTERY, POS_X, POS_Y, HAS_POD, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID)
+        WITH (DROP_EXISTING = ON);
+GO
+
+IF COL_LENGTH('dbo.MUSHINY_POD_INFO','CHG_TS') IS NULL
+    ALTER TABLE dbo.MUSHINY_POD_INFO ADD CHG_TS AS COALESCE(UPD_DT, INS_DT) PERSISTED;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'IX_MUSHINY_POD_INFO_CHG_TS' AND object_id = OBJECT_ID('dbo.MUSHINY_POD_INFO'))
+    CREATE INDEX IX_MUSHINY_POD_INFO_CHG_TS ON dbo.MUSHINY_POD_INFO(CHG_TS, UUID)
+        INCLUDE (POD_ID, SECTION_ID, ZONE_CODE, LOCATION, POD_DIRECTION, POS_X, POS_Y, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID);
+ELSE IF NOT EXISTS (SELECT 1 FROM sys.index_columns ic JOIN sys.indexes i ON i.object_id = ic.object_id AND i.index_id = ic.index_id
+                    WHERE i.name = 'IX_MUSHINY_POD_INFO_CHG_TS' AND i.object_id = OBJECT_ID('dbo.MUSHINY_POD_INFO') AND ic.is_included_column = 1)
+    CREATE INDEX IX_MUSHINY_POD_INFO_CHG_TS ON dbo.MUSHINY_POD_INFO(CHG_TS, UUID)
+        INCLUDE (POD_ID, SECTION_ID, ZONE_CODE, LOCATION, POD_DIRECTION, POS_X, POS_Y, INS_DT, INS_USER_ID, UPD_DT, UPD_USER_ID)
+        WITH (DROP_EXISTING = ON);
+GO
+
+/* ========== Change Tracking (etl.extraction.<domain>=CHANGE_TRACKING) ==========
+   - CHANGETABLE(CHANGES ...) 로 마지막 동기화 버전 이후 변경된 행의 기본 키만 조회 후 본 테이블과 조인
+   - CHANGETABLE 은 기본 키 열만 돌려줌: ANT_ROBOT_INFO / ANT_POD_INFO / MUSHINY_AGV_INFO / MUSHINY_POD_INFO 는 UUID,
+     ANT_FLYPICK_INFO 는 ROBOT_NO (조인, (SYS_CHANGE_VERSION, 키) 키셋, 오프셋 모두 ROBOT_NO 기준)
+   - 보존 기간(CHANGE_RETENTION)보다 오래 멈춰 있던 잡은 최소 유효 버전 확인 후 자동 부트스트랩
+*/
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_databases WHERE database_id = DB_ID())
+    ALTER DATABASE CURRENT SET CHANGE_TRACKING = ON (CHANGE_RETENTION = 2 DAYS, AUTO_CLEANUP = ON);
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_tables WHERE object_id = OBJECT_ID('dbo.ANT_ROBOT_INFO'))
+    ALTER TABLE dbo.ANT_ROBOT_INFO ENABLE CHANGE_TRACKING;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_tables WHERE object_id = OBJECT_ID('dbo.ANT_POD_INFO'))
+    ALTER TABLE dbo.ANT_POD_INFO ENABLE CHANGE_TRACKING;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_tables WHERE object_id = OBJECT_ID('dbo.ANT_FLYPICK_INFO'))
+    ALTER TABLE dbo.ANT_FLYPICK_INFO ENABLE CHANGE_TRACKING;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_tables WHERE object_id = OBJECT_ID('dbo.MUSHINY_AGV_INFO'))
+    ALTER TABLE dbo.MUSHINY_AGV_INFO ENABLE CHANGE_TRACKING;
+GO
+IF NOT EXISTS (SELECT 1 FROM sys.change_tracking_tables WHERE object_id = OBJECT_ID('dbo.MUSHINY_POD_INFO'))
+    ALTER TABLE dbo.MUSHINY_POD_INFO ENABLE CHANGE_TRACKING;
+GO
+
 /* ========== VIEW 골격 (스키마만 정의, 데이터는 추후) ========== */
 IF OBJECT_ID('dbo.MC_STA_MST_VIEW','V') IS NOT NULL DROP VIEW dbo.MC_STA_MST_VIEW;
 GO